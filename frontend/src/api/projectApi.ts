@@ -40,8 +40,17 @@ export type ProjectQueryParams = Partial<{
   workStyle: WorkStyle;
   rewardType: RewardType;
   keyword: string;
+  sort: 'createdAt' | 'updatedAt' | 'relevance';
 }>;
 
+export type ProjectFacetCounts = {
+  total: number;
+  stage: Record<ProjectStage, number>;
+  domain: Record<ProjectDomain, number>;
+  workStyle: Record<WorkStyle, number>;
+  rewardType: Record<RewardType, number>;
+};
+
 export const projectApi = {
   createProject: async (payload: ProjectRequest) => {
     const { data } = await httpClient.post<ProjectResponse>('/projects', payload);
@@ -59,6 +68,14 @@ export const projectApi = {
     const { data } = await httpClient.get<ProjectResponse[]>('/projects', { params });
     return data;
   },
+  getFacetCounts: async (params?: Omit<ProjectQueryParams, 'sort'>) => {
+    const { data } = await httpClient.get<ProjectFacetCounts>('/projects/facets', { params });
+    return data;
+  },
+  getProjectsByOwner: async (userId: number) => {
+    const { data } = await httpClient.get<ProjectResponse[]>(`/users/${userId}/projects`);
+    return data;
+  },
   deleteProject: async (projectId: number) => {
     await httpClient.delete(`/projects/${projectId}`);
   }
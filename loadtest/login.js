@@ -0,0 +1,72 @@
+// 로그인(bcrypt 검증) 처리량 측정용 k6 시나리오.
+// 미리 가입시킨 USERS 명으로 로그인만 반복하고, 코어당 초당 로그인 수를 출력해 노드 크기 산정에 쓴다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e CORES=$(nproc) -e VUS=64 -e DURATION=60s loadtest/login.js
+//
+// CORES 는 서버가 쓰는 코어 수(security.password.threads 를 바꿨다면 그 값)로 준다.
+// 대기열 포화로 503 이 나오면 rejected 로 따로 센다. cost 별 비교는 서버를 --security.password.bcrypt-cost=N 으로 다시 띄워 반복한다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = Number(__ENV.USERS || 100);
+const CORES = Number(__ENV.CORES || 1);
+const PASSWORD = 'password1234';
+
+const logins = new Counter('logins');
+const rejected = new Counter('rejected');
+
+export const options = {
+  scenarios: {
+    login: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 64),
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+  const emails = [];
+  const prefix = `login-${Date.now()}`;
+  for (let i = 0; i < USERS; i++) {
+    const email = `${prefix}-${i}@example.com`;
+    http.post(`${BASE_URL}/api/users`, JSON.stringify({
+      email,
+      password: PASSWORD,
+      nickname: `login${i}`,
+      contact: '010-0000-0000',
+    }), JSON_HEADERS);
+    emails.push(email);
+  }
+  return { emails };
+}
+
+export default function (data) {
+  const email = data.emails[Math.floor(Math.random() * data.emails.length)];
+  const res = http.post(`${BASE_URL}/api/users/login`, JSON.stringify({ email, password: PASSWORD }), JSON_HEADERS);
+  if (res.status === 503) {
+    rejected.add(1);
+    return;
+  }
+  if (check(res, { 'login ok': (r) => r.status === 200 })) {
+    logins.add(1);
+  }
+}
+
+export function handleSummary(data) {
+  const rate = data.metrics.logins ? data.metrics.logins.values.rate : 0;
+  const rejectedCount = data.metrics.rejected ? data.metrics.rejected.values.count : 0;
+  const p99 = data.metrics.http_req_duration.values['p(99)'];
+  const lines = [
+    `logins/s          ${rate.toFixed(1)}`,
+    `logins/s per core ${(rate / CORES).toFixed(1)} (cores=${CORES})`,
+    `p99(ms)           ${p99.toFixed(1)}`,
+    `rejected(503)     ${rejectedCount}`,
+  ];
+  return { stdout: lines.join('\n') + '\n' };
+}
@@ -0,0 +1,85 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 k6 시나리오.
+// 프로젝트/프로필 조회 위주에 일부 수정 요청을 섞어 동시 연결 VUS 개를 유지한다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=10000 -e DURATION=60s loadtest/read-write.js
+//
+// run.sh 가 두 모드로 서버를 띄워 차례로 실행하고 처리량과 p99 를 요약한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SEED = Number(__ENV.SEED || 1000);
+
+export const options = {
+  scenarios: {
+    mixed: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 10000),
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+  const projectIds = [];
+  const userIds = [];
+  for (let i = 0; i < SEED; i++) {
+    const user = http.post(`${BASE_URL}/api/users`, JSON.stringify({
+      email: `load-${Date.now()}-${i}@example.com`,
+      password: 'password1234',
+      nickname: `load${i}`,
+      contact: '010-0000-0000',
+    }), JSON_HEADERS).json();
+    userIds.push(user.id);
+
+    http.post(`${BASE_URL}/api/users/${user.id}/profile`, JSON.stringify({
+      role: 'DEVELOPER',
+      skills: ['java', 'spring'],
+      interests: ['fintech'],
+      availability: 'PART_TIME',
+      bio: 'load test',
+    }), JSON_HEADERS);
+
+    const project = http.post(`${BASE_URL}/api/projects`, JSON.stringify({
+      ownerId: user.id,
+      name: `부하 테스트 프로젝트 ${i}`,
+      oneLineIntro: '부하 테스트',
+      description: '가상 스레드 비교용 데이터',
+      stage: 'IDEA',
+      domain: 'FINTECH',
+      workStyle: 'REMOTE',
+      rewardType: 'EQUITY',
+      expectedDuration: '3개월',
+    }), JSON_HEADERS).json();
+    projectIds.push(project.id);
+  }
+  return { projectIds, userIds };
+}
+
+export default function (data) {
+  const projectId = data.projectIds[Math.floor(Math.random() * data.projectIds.length)];
+  const userId = data.userIds[Math.floor(Math.random() * data.userIds.length)];
+  const roll = Math.random();
+
+  let res;
+  if (roll < 0.4) {
+    res = http.get(`${BASE_URL}/api/projects/${projectId}`, { tags: { name: 'GET /api/projects/{id}' } });
+  } else if (roll < 0.6) {
+    res = http.get(`${BASE_URL}/api/projects?limit=20`, { tags: { name: 'GET /api/projects?limit' } });
+  } else if (roll < 0.8) {
+    res = http.get(`${BASE_URL}/api/users/${userId}/profile`, { tags: { name: 'GET /api/users/{id}/profile' } });
+  } else if (roll < 0.9) {
+    res = http.get(`${BASE_URL}/api/users/${userId}`, { tags: { name: 'GET /api/users/{id}' } });
+  } else {
+    res = http.patch(`${BASE_URL}/api/projects/${projectId}`,
+      JSON.stringify({ oneLineIntro: `수정 ${Date.now()}` }),
+      Object.assign({ tags: { name: 'PATCH /api/projects/{id}' } }, JSON_HEADERS));
+  }
+  check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# 같은 빌드를 플랫폼 스레드 / 가상 스레드 모드로 차례로 띄워 read-write.js 를 실행하고
+# 모드별 처리량(req/s)과 p99 응답 시간을 비교한다. k6 와 jq, JDK 21 이상이 필요하다.
+#
+#   VUS=10000 DURATION=60s loadtest/run.sh
+#
+# PATH 의 java 가 21 미만이면 JAVA 로 21 이상의 java 실행 파일을 지정한다.
+#
+#   JAVA=/usr/lib/jvm/java-21/bin/java loadtest/run.sh
+#
+# 10k 연결을 열려면 클라이언트/서버 모두 ulimit -n 이 충분히 커야 한다.
+#
+# SERVER_ARGS 는 서버에 그대로 넘긴다. 메서드 계측 오버헤드는 같은 조건에서 켜고 끈 두 번을 비교한다.
+#
+#   SERVER_ARGS=--metrics.methods.enabled=false OUT_DIR=build/loadtest/metrics-off loadtest/run.sh
+#   SERVER_ARGS=--metrics.methods.enabled=true  OUT_DIR=build/loadtest/metrics-on  loadtest/run.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+VUS="${VUS:-10000}"
+DURATION="${DURATION:-60s}"
+PORT="${PORT:-8080}"
+OUT_DIR="${OUT_DIR:-build/loadtest}"
+SERVER_ARGS="${SERVER_ARGS:-}"
+JAVA="${JAVA:-java}"
+
+for tool in k6 jq curl "$JAVA"; do
+  if ! command -v "$tool" > /dev/null; then
+    echo "$tool 을(를) 찾을 수 없습니다." >&2
+    exit 1
+  fi
+done
+JAVA_MAJOR="$("$JAVA" -XshowSettings:properties -version 2>&1 | awk -F' = ' '/java.specification.version/ { print $2 }')"
+if (( JAVA_MAJOR < 21 )); then
+  echo "JDK 21 이상이 필요합니다: $JAVA 는 $JAVA_MAJOR 입니다. JAVA 로 지정하세요." >&2
+  exit 1
+fi
+
+sh ./gradlew -q bootJar
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+mkdir -p "$OUT_DIR"
+
+run_mode() {
+  local mode="$1" virtual="$2"
+  echo "== ${mode} (spring.threads.virtual.enabled=${virtual})"
+  "$JAVA" -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$virtual" $SERVER_ARGS \
+    > "$OUT_DIR/${mode}-server.log" 2>&1 &
+  local pid=$!
+  trap 'kill '"$pid"' 2>/dev/null || true' EXIT
+
+  until curl -sf "http://localhost:${PORT}/api/profiles?limit=1" > /dev/null; do
+    sleep 1
+  done
+
+  k6 run --quiet -e BASE_URL="http://localhost:${PORT}" -e VUS="$VUS" -e DURATION="$DURATION" \
+    --summary-export "$OUT_DIR/${mode}-summary.json" loadtest/read-write.js
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+printf '\n%-10s %12s %12s %10s\n' mode 'req/s' 'p99(ms)' 'failed'
+for mode in platform virtual; do
+  jq -r --arg mode "$mode" \
+    '[$mode, (.metrics.http_reqs.rate | floor), (.metrics.http_req_duration["p(99)"] | . * 10 | floor / 10),
+      (.metrics.http_req_failed.value * 100 | tostring + "%")] | @tsv' \
+    "$OUT_DIR/${mode}-summary.json" | awk -F'\t' '{ printf "%-10s %12s %12s %10s\n", $1, $2, $3, $4 }'
+done
@@ -0,0 +1,101 @@
+package com.founder.match;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.persistence.WriteAheadLog;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.repository.InMemoryProjectRepository;
+import com.founder.match.project.repository.ProjectRecordCodec;
+
+/**
+ * WAL 을 켠 애플리케이션 전체 기동 시간. 프로젝트 projects 건을 스냅샷으로 남겨 두고 Spring 컨텍스트를 띄워
+ * 웹 서버가 요청을 받을 수 있을 때(run 이 돌아올 때)까지를 잰다. 저장소 복원과 키워드·매칭 인덱스 재구성이 모두 들어간다.
+ * 실제 기동처럼 클래스 로딩과 JIT 이 안 된 상태에서 재도록 fork 마다 한 번만 잰다.
+ * 설정은 명령행 인자로 넘긴다. 빌더의 기본 속성은 application.properties 보다 우선순위가 낮아 WAL 이 꺼진 채로 뜬다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 3, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class ApplicationStartupBenchmark {
+
+    private static final long MAX_PENDING_BYTES = 64L * 1024 * 1024;
+    private static final int SAVE_BATCH = 10_000;
+
+    @Param({"1000000"})
+    int projects;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void writeData() throws IOException {
+        directory = Files.createTempDirectory("application-startup");
+        ChangeEventLog changeLog = new ChangeEventLog(1024);
+        try (WriteAheadLog<Project> journal = new WriteAheadLog<>(directory, "projects", new ProjectRecordCodec(),
+                MAX_PENDING_BYTES)) {
+            InMemoryProjectRepository repository = new InMemoryProjectRepository(journal, changeLog);
+            List<Project> data = BenchmarkData.projects(projects, projects, 1L);
+            for (int from = 0; from < data.size(); from += SAVE_BATCH) {
+                repository.saveAll(data.subList(from, Math.min(from + SAVE_BATCH, data.size())));
+            }
+            journal.checkpoint();
+        } finally {
+            changeLog.destroy();
+        }
+        System.gc();
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext start() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--persistence.wal.enabled=true",
+                        "--persistence.wal.directory=" + directory);
+        return context;
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteData() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.founder.match;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.founder.match.common.term.TermDictionary;
+import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+
+/**
+ * 벤치마크용 데이터 생성기. 같은 seed 면 항상 같은 데이터를 만든다.
+ */
+public final class BenchmarkData {
+
+    private static final ProjectStage[] STAGES = ProjectStage.values();
+    private static final ProjectDomain[] DOMAINS = ProjectDomain.values();
+    private static final WorkStyle[] WORK_STYLES = WorkStyle.values();
+    private static final RewardType[] REWARD_TYPES = RewardType.values();
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String[] SKILLS = {
+            "java", "spring", "kotlin", "react", "vue", "typescript", "python", "django",
+            "go", "rust", "swift", "android", "ios", "flutter", "aws", "gcp",
+            "kubernetes", "docker", "postgres", "mysql", "redis", "kafka", "ml", "pytorch",
+            "design", "figma", "marketing", "sales", "seo", "growth", "finance", "legal"};
+    private static final String[] INTERESTS = {
+            "헬스케어", "의료", "핀테크", "금융", "교육", "학습", "게임", "미디어", "커머스", "유통"};
+    private static final String[] AVAILABILITIES = {"원격 위주", "주 3일 출근", "하이브리드", "주말"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * id 가 없는 프로젝트 count 건. 소유자는 1..owners 중에서 고른다.
+     */
+    public static List<Project> projects(int count, int owners, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = BASE_TIME.plusSeconds(random.nextInt(365 * 24 * 3600));
+            projects.add(Project.builder()
+                    .ownerId(1L + random.nextInt(owners))
+                    .name("project-" + i)
+                    .oneLineIntro(words(random, SKILLS, 3))
+                    .description(words(random, SKILLS, 8))
+                    .stage(STAGES[random.nextInt(STAGES.length)])
+                    .domain(DOMAINS[random.nextInt(DOMAINS.length)])
+                    .workStyle(WORK_STYLES[random.nextInt(WORK_STYLES.length)])
+                    .rewardType(REWARD_TYPES[random.nextInt(REWARD_TYPES.length)])
+                    .expectedDuration("6개월")
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusSeconds(random.nextInt(30 * 24 * 3600)))
+                    .build());
+        }
+        return projects;
+    }
+
+    /**
+     * userId 1..count 의 프로필. 스킬은 프로젝트 소개와 같은 어휘에서 고른다.
+     */
+    public static List<FounderProfile> profiles(TermDictionary tags, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<FounderProfile> profiles = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            profiles.add(FounderProfile.create(tags,
+                    (long) i,
+                    "developer",
+                    pick(random, SKILLS, 4),
+                    pick(random, INTERESTS, 2),
+                    AVAILABILITIES[random.nextInt(AVAILABILITIES.length)],
+                    "bio " + i));
+        }
+        return profiles;
+    }
+
+    private static List<String> pick(SplittableRandom random, String[] vocabulary, int count) {
+        List<String> picked = new ArrayList<>(count);
+        while (picked.size() < count) {
+            String word = vocabulary[random.nextInt(vocabulary.length)];
+            if (!picked.contains(word)) {
+                picked.add(word);
+            }
+        }
+        return picked;
+    }
+
+    private static String words(SplittableRandom random, String[] vocabulary, int count) {
+        return String.join(" ", pick(random, vocabulary, count));
+    }
+}
@@ -0,0 +1,114 @@
+package com.founder.match.common.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * MethodMetricsPostProcessor 가 감싼 빈의 호출 한 번당 추가 비용.
+ * mode=plain 은 metrics.methods.enabled=false 와 같고, mode=instrumented 는 운영 설정과 같은
+ * Prometheus 레지스트리(버킷 히스토그램, 클라이언트 백분위 없음)로 기록한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MethodMetricsBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"plain", "instrumented"})
+    String mode;
+
+    private SampleService service;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals(MethodMetricsInterceptor.DURATION)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) TimeUnit.MICROSECONDS.toNanos(50))
+                        .maximumExpectedValue((double) TimeUnit.SECONDS.toNanos(10))
+                        .build()
+                        .merge(config);
+            }
+        });
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        MethodMetricsPostProcessor postProcessor =
+                new MethodMetricsPostProcessor(beans.getBeanProvider(MeterRegistry.class), "instrumented".equals(mode));
+        service = (SampleService) postProcessor.postProcessAfterInitialization(new SampleService(), "sampleService");
+    }
+
+    @Benchmark
+    public Optional<String> lookup() {
+        return service.findById(nextId());
+    }
+
+    @Benchmark
+    public List<String> page() {
+        return service.findPage((int) nextId());
+    }
+
+    private long nextId() {
+        next = (next + 7) % (SIZE + SIZE / 4);
+        return next;
+    }
+
+    /**
+     * 계측 대상이 되는 작은 서비스. 조회 자체는 비용이 거의 없어 계측 비용이 그대로 드러난다.
+     */
+    @Service
+    public static class SampleService {
+
+        private final List<String> values = new ArrayList<>(SIZE);
+
+        public SampleService() {
+            for (int i = 0; i < SIZE; i++) {
+                values.add("value-" + i);
+            }
+        }
+
+        public Optional<String> findById(long id) {
+            return id < SIZE ? Optional.of(values.get((int) id)) : Optional.empty();
+        }
+
+        public List<String> findPage(int from) {
+            int start = Math.min(from, SIZE - PAGE_SIZE);
+            ScanCounter.add(PAGE_SIZE);
+            return values.subList(start, start + PAGE_SIZE);
+        }
+    }
+}
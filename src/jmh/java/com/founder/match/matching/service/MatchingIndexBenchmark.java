@@ -0,0 +1,104 @@
+package com.founder.match.matching.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.founder.match.BenchmarkData;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.common.term.TermDictionary;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.profile.repository.InMemoryFounderProfileRepository;
+import com.founder.match.project.repository.InMemoryProjectRepository;
+
+/**
+ * 프로필 size 건 x 프로젝트 size 건에서 상위 k 건 추천 한 번의 비용.
+ * scan 은 캐시를 거치지 않는 미적중 경로로 facet 묶음과 토큰 요약으로 후보를 걸러 가며 훑고(top-n=0), cached 는 미리 채워 둔 RecommendationCache 의 적중 경로다.
+ * 조회 대상은 호출마다 바꿔 한 대상만 반복해 CPU 캐시 덕을 보지 않도록 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class MatchingIndexBenchmark {
+
+    private static final int K = 10;
+    private static final int CACHE_TOP_N = 50;
+    private static final long CACHE_BYTES = 256L * 1024 * 1024;
+    private static final int CACHED_SUBJECTS = 1000;
+
+    @Param({"10000", "100000"})
+    int size;
+
+    private ChangeEventLog changeLog;
+    private MatchingIndex scanIndex;
+    private MatchingIndex cachedIndex;
+    private long nextScanned;
+    private long nextCached;
+
+    @Setup
+    public void setUp() {
+        changeLog = new ChangeEventLog(1024);
+        InMemoryProjectRepository projects = new InMemoryProjectRepository(RepositoryJournal.disabled(), changeLog);
+        projects.saveAll(BenchmarkData.projects(size, size, 1L));
+        InMemoryFounderProfileRepository profiles =
+                new InMemoryFounderProfileRepository(RepositoryJournal.disabled(), changeLog);
+        profiles.saveAll(BenchmarkData.profiles(new TermDictionary(1000), size, 2L));
+
+        scanIndex = new MatchingIndex(new RecommendationCache(0, CACHE_BYTES), projects, profiles);
+        cachedIndex = new MatchingIndex(new RecommendationCache(CACHE_TOP_N, CACHE_BYTES), projects, profiles);
+        for (long id = 1; id <= CACHED_SUBJECTS; id++) {
+            cachedIndex.topProjects(id, K);
+            cachedIndex.topFounders(id, K);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        changeLog.destroy();
+    }
+
+    @Benchmark
+    public List<MatchResult> topProjectsScan() {
+        return scanIndex.topProjects(nextScanned(), K);
+    }
+
+    @Benchmark
+    public List<MatchResult> topFoundersScan() {
+        return scanIndex.topFounders(nextScanned(), K);
+    }
+
+    @Benchmark
+    public List<MatchResult> topProjectsCached() {
+        return cachedIndex.topProjects(nextCached(), K);
+    }
+
+    @Benchmark
+    public List<MatchResult> topFoundersCached() {
+        return cachedIndex.topFounders(nextCached(), K);
+    }
+
+    private long nextScanned() {
+        nextScanned = nextScanned % size + 1;
+        return nextScanned;
+    }
+
+    private long nextCached() {
+        nextCached = nextCached % CACHED_SUBJECTS + 1;
+        return nextCached;
+    }
+}
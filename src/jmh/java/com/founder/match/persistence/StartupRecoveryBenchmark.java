@@ -0,0 +1,112 @@
+package com.founder.match.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.founder.match.BenchmarkData;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.repository.InMemoryProjectRepository;
+import com.founder.match.project.repository.ProjectRecordCodec;
+
+/**
+ * 기동 시 프로젝트 저장소 복원 시간. 반복마다 새 WriteAheadLog 와 저장소를 만들어 한 번만 잰다.
+ * source=snapshot 은 체크포인트 직후(스냅샷만 읽음), source=log 는 체크포인트 없이 로그 전체를 replay 하는 경우다.
+ * rewrites 는 처음 저장한 뒤 같은 프로젝트를 다시 저장한 횟수로, 0 이면 로그와 스냅샷의 레코드 수가 같다.
+ * 실제 기동처럼 빈 힙에서 시작하도록, 반복이 끝날 때마다 복원한 저장소를 버리고 GC 를 돌린다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class StartupRecoveryBenchmark {
+
+    private static final String NAME = "projects";
+    private static final long MAX_PENDING_BYTES = 64L * 1024 * 1024;
+    private static final int SAVE_BATCH = 10_000;
+
+    @Param({"100000", "1000000"})
+    int projects;
+
+    @Param({"snapshot", "log"})
+    String source;
+
+    @Param({"0", "3"})
+    int rewrites;
+
+    private Path directory;
+    private ChangeEventLog changeLog;
+    private WriteAheadLog<Project> recovered;
+
+    @Setup(Level.Trial)
+    public void writeData() throws IOException {
+        directory = Files.createTempDirectory("startup-recovery");
+        changeLog = new ChangeEventLog(1024);
+        try (WriteAheadLog<Project> journal = journal()) {
+            InMemoryProjectRepository repository = new InMemoryProjectRepository(journal, changeLog);
+            List<Project> data = BenchmarkData.projects(projects, projects, 1L);
+            for (int round = 0; round <= rewrites; round++) {
+                for (int from = 0; from < data.size(); from += SAVE_BATCH) {
+                    List<Project> saved = repository.saveAll(data.subList(from, Math.min(from + SAVE_BATCH, data.size())));
+                    for (int i = 0; i < saved.size(); i++) {
+                        Project project = saved.get(i);
+                        data.set(from + i, project.toBuilder().updatedAt(project.getUpdatedAt().plusSeconds(1)).build());
+                    }
+                }
+            }
+            if ("snapshot".equals(source)) {
+                journal.checkpoint();
+            }
+        }
+    }
+
+    @Benchmark
+    public InMemoryProjectRepository recover() {
+        recovered = journal();
+        return new InMemoryProjectRepository(recovered, changeLog);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeRecovered() {
+        if (recovered != null) {
+            recovered.close();
+            recovered = null;
+        }
+        System.gc();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteData() throws IOException {
+        changeLog.destroy();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private WriteAheadLog<Project> journal() {
+        return new WriteAheadLog<>(directory, NAME, new ProjectRecordCodec(), MAX_PENDING_BYTES);
+    }
+}
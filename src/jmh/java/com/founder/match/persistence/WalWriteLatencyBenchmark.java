@@ -0,0 +1,154 @@
+package com.founder.match.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.founder.match.BenchmarkData;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.dto.ProjectUpdateRequest;
+import com.founder.match.project.repository.InMemoryProjectRepository;
+import com.founder.match.project.repository.ProjectRecordCodec;
+import com.founder.match.project.search.ProjectKeywordIndex;
+import com.founder.match.project.service.ProjectService;
+
+/**
+ * WAL 을 켠 프로젝트 수정(ProjectService.update)을 초당 rate 건으로 고정해 넣었을 때의 응답 시간 분포.
+ * 요청은 예정 시각마다 workers 개 스레드 풀에 넣고, 지연은 예정 시각부터 완료까지 잰다(밀린 요청의 대기 시간 포함).
+ * 한 번의 측정이 seconds 초 동안의 부하이며, 백분위는 반복이 끝날 때 출력한다. 점수(ms)는 부하 전체의 소요 시간이다.
+ * durability=SYNC 는 응답 전에 fsync 를 기다리고(잠금 밖에서), INTERVAL 은 10ms 주기로 모아서 기록한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 4)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class WalWriteLatencyBenchmark {
+
+    private static final String NAME = "projects";
+    private static final long MAX_PENDING_BYTES = 8L * 1024 * 1024;
+    private static final int PROJECTS = 10_000;
+    private static final long FSYNC_INTERVAL_MILLIS = 10;
+
+    @Param({"SYNC", "INTERVAL"})
+    WalDurability durability;
+
+    @Param({"5000"})
+    int rate;
+
+    @Param({"5"})
+    int seconds;
+
+    @Param({"64"})
+    int workers;
+
+    private Path directory;
+    private ChangeEventLog changeLog;
+    private WriteAheadLog<Project> journal;
+    private ProjectService service;
+    private ExecutorService executor;
+    private long[] latencies;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wal-latency");
+        changeLog = new ChangeEventLog(1024);
+        journal = new WriteAheadLog<>(directory, NAME, new ProjectRecordCodec(), MAX_PENDING_BYTES,
+                durability, FSYNC_INTERVAL_MILLIS);
+        InMemoryProjectRepository repository = new InMemoryProjectRepository(journal, changeLog);
+        repository.saveAll(BenchmarkData.projects(PROJECTS, PROJECTS, 1L));
+        service = new ProjectService(repository, new ProjectKeywordIndex(3.0, 2.0, 1.0), event -> {
+        });
+        executor = Executors.newFixedThreadPool(workers);
+    }
+
+    @Benchmark
+    public long run() throws InterruptedException {
+        int requests = rate * seconds;
+        latencies = new long[requests];
+        SplittableRandom random = new SplittableRandom(requests);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicLong failures = new AtomicLong();
+        long period = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long scheduled = start + i * period;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int index = i;
+            long projectId = 1 + random.nextInt(PROJECTS);
+            executor.execute(() -> {
+                try {
+                    service.update(projectId, describe(index), null);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - scheduled;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        return failures.get();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%n%s rate=%d/s requests=%d p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+                durability, rate, sorted.length, millis(sorted, 0.50), millis(sorted, 0.99), millis(sorted, 0.999),
+                sorted[sorted.length - 1] / 1e6);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        journal.close();
+        changeLog.destroy();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static ProjectUpdateRequest describe(int index) {
+        ProjectUpdateRequest request = new ProjectUpdateRequest();
+        request.setDescription("java spring kafka 결제 " + index);
+        return request;
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+}
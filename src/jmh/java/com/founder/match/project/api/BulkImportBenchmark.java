@@ -0,0 +1,129 @@
+package com.founder.match.project.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import com.founder.match.BenchmarkData;
+import com.founder.match.DemoApplication;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.dto.ProjectRequest;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * POST /api/projects/bulk 로 NDJSON 프로젝트 projects 건을 한 요청에 올려 응답을 받을 때까지의 시간.
+ * 본문 읽기, DTO 변환과 검증, 저장(wal=true 면 배치마다 fsync), 키워드·매칭 인덱스 반영이 모두 들어간다.
+ * 반복마다 빈 애플리케이션을 새로 띄워 같은 조건에서 잰다. 기동 시간은 측정에 넣지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class BulkImportBenchmark {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    @Param({"100000"})
+    int projects;
+
+    @Param({"false", "true"})
+    boolean wal;
+
+    private byte[] body;
+    private HttpClient client;
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private URI uri;
+
+    @Setup(Level.Trial)
+    public void writeBody() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Project project : BenchmarkData.projects(projects, projects, 1L)) {
+            out.writeBytes(MAPPER.writeValueAsBytes(request(project)));
+            out.write('\n');
+        }
+        body = out.toByteArray();
+        client = HttpClient.newHttpClient();
+    }
+
+    @Setup(Level.Iteration)
+    public void start() throws IOException {
+        directory = Files.createTempDirectory("bulk-import");
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--persistence.wal.enabled=" + wal,
+                        "--persistence.wal.directory=" + directory);
+        uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/projects/bulk");
+    }
+
+    @Benchmark
+    public long importProjects() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri)
+                        .header("Content-Type", MediaType.APPLICATION_NDJSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        long created = MAPPER.readTree(response.body()).path("created").asLong();
+        if (response.statusCode() != 200 || created != projects) {
+            throw new IllegalStateException("일괄 등록 결과가 다릅니다: status=" + response.statusCode()
+                    + ", body=" + response.body());
+        }
+        return created;
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() throws IOException {
+        context.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static ProjectRequest request(Project project) {
+        ProjectRequest request = new ProjectRequest();
+        request.setOwnerId(project.getOwnerId());
+        request.setName(project.getName());
+        request.setOneLineIntro(project.getOneLineIntro());
+        request.setDescription(project.getDescription());
+        request.setStage(project.getStage());
+        request.setDomain(project.getDomain());
+        request.setWorkStyle(project.getWorkStyle());
+        request.setRewardType(project.getRewardType());
+        request.setExpectedDuration(project.getExpectedDuration());
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package com.founder.match.project.repository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.founder.match.BenchmarkData;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+
+/**
+ * facet 비트맵 인덱스 조회와, 전체 목록을 stream 으로 걸러내던 이전 방식의 비교.
+ * filter 는 조건 개수(1~4)로, 조건이 많을수록 결과가 작아진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectFacetFilterBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    int projects;
+
+    @Param({"1", "2", "4"})
+    int facets;
+
+    private ChangeEventLog changeLog;
+    private InMemoryProjectRepository repository;
+    private ProjectFacetFilter filter;
+
+    @Setup
+    public void setUp() {
+        changeLog = new ChangeEventLog(1024);
+        repository = new InMemoryProjectRepository(RepositoryJournal.disabled(), changeLog);
+        repository.saveAll(BenchmarkData.projects(projects, projects, 1L));
+        filter = new ProjectFacetFilter(
+                ProjectStage.MVP,
+                facets >= 2 ? ProjectDomain.FINTECH : null,
+                facets >= 3 ? WorkStyle.REMOTE : null,
+                facets >= 4 ? RewardType.EQUITY : null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        changeLog.destroy();
+    }
+
+    @Benchmark
+    public List<Project> bitmapAll() {
+        return repository.findByFacets(filter);
+    }
+
+    @Benchmark
+    public List<Project> streamAll() {
+        return stream().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Project> bitmapPage() {
+        return repository.findByFacets(filter, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Project> streamPage() {
+        return stream().limit(PAGE_SIZE).collect(Collectors.toList());
+    }
+
+    private Stream<Project> stream() {
+        return repository.findAll().stream()
+                .filter(project -> filter.getStage() == null || Objects.equals(filter.getStage(), project.getStage()))
+                .filter(project -> filter.getDomain() == null || Objects.equals(filter.getDomain(), project.getDomain()))
+                .filter(project -> filter.getWorkStyle() == null
+                        || Objects.equals(filter.getWorkStyle(), project.getWorkStyle()))
+                .filter(project -> filter.getRewardType() == null
+                        || Objects.equals(filter.getRewardType(), project.getRewardType()))
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()));
+    }
+}
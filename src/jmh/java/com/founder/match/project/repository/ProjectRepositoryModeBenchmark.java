@@ -0,0 +1,135 @@
+package com.founder.match.project.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.founder.match.BenchmarkData;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 인메모리 저장소와 JDBC 저장소(H2, jdbc 프로파일과 같은 스키마와 커넥션 풀)의 조회 비용 비교.
+ * mode=jdbc-cached 는 jdbc 프로파일에서 실제로 쓰는 CachingProjectRepository 를 앞에 둔 경우다.
+ * H2 는 같은 쿼리를 같은 인자로 다시 실행하면 직전 결과를 재사용하므로, 호출마다 필터와 커서를 바꾼다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ProjectRepositoryModeBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ID_BATCH = 50;
+    private static final int ROTATION = 64;
+
+    @Param({"memory", "jdbc", "jdbc-cached"})
+    String mode;
+
+    @Param({"100000"})
+    int projects;
+
+    private static final ProjectStage[] STAGES = ProjectStage.values();
+    private static final ProjectDomain[] DOMAINS = ProjectDomain.values();
+
+    private ChangeEventLog changeLog;
+    private HikariDataSource dataSource;
+    private ProjectRepository repository;
+    private ProjectFacetFilter[] filters;
+    private long[] cursors;
+    private int[][] idBatches;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        changeLog = new ChangeEventLog(1024);
+        repository = switch (mode) {
+            case "memory" -> new InMemoryProjectRepository(RepositoryJournal.disabled(), changeLog);
+            case "jdbc" -> jdbcRepository();
+            case "jdbc-cached" -> new CachingProjectRepository(jdbcRepository(), 64L * 1024 * 1024, new SimpleMeterRegistry());
+            default -> throw new IllegalArgumentException("알 수 없는 mode: " + mode);
+        };
+        repository.saveAll(BenchmarkData.projects(projects, projects, 1L));
+
+        SplittableRandom random = new SplittableRandom(3L);
+        filters = new ProjectFacetFilter[ROTATION];
+        cursors = new long[ROTATION];
+        idBatches = new int[ROTATION][];
+        for (int i = 0; i < ROTATION; i++) {
+            filters[i] = new ProjectFacetFilter(
+                    STAGES[random.nextInt(STAGES.length)], DOMAINS[random.nextInt(DOMAINS.length)], null, null);
+            cursors[i] = random.nextInt(projects);
+            idBatches[i] = random.ints(ID_BATCH, 1, projects + 1).sorted().distinct().toArray();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (dataSource != null) {
+            new JdbcTemplate(dataSource).execute("SHUTDOWN");
+            dataSource.close();
+        }
+        changeLog.destroy();
+    }
+
+    @Benchmark
+    public Optional<Project> findById() {
+        return repository.findById((long) idBatches[next()][0]);
+    }
+
+    @Benchmark
+    public List<Project> findAllById() {
+        return repository.findAllById(idBatches[next()]);
+    }
+
+    @Benchmark
+    public List<Project> findByFacetsPage() {
+        int i = next();
+        return repository.findByFacets(filters[i], cursors[i], PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Project> findByFacetsRecent() {
+        return repository.findByFacets(filters[next()], ProjectTimeOrder.UPDATED_AT, null, PAGE_SIZE);
+    }
+
+    private int next() {
+        next = (next + 1) % ROTATION;
+        return next;
+    }
+
+    private JdbcProjectRepository jdbcRepository() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).execute(dataSource);
+        return new JdbcProjectRepository(new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource), 500,
+                changeLog);
+    }
+}
@@ -0,0 +1,87 @@
+package com.founder.match.project.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.founder.match.BenchmarkData;
+import com.founder.match.project.domain.Project;
+
+/**
+ * 색인된 프로젝트 하나를 다시 색인하는 비용(쓰기 잠금을 쥐는 시간).
+ * edited 는 설명의 단어 하나만 바뀐 수정, unchanged 는 텍스트가 그대로인 수정(예: stage 만 변경)이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class KeywordIndexUpdateBenchmark {
+
+    private static final int ROTATION = 1024;
+
+    @Param({"100000"})
+    int projects;
+
+    private ProjectKeywordIndex index;
+    private Project[] originals;
+    private Project[] edits;
+    private int next;
+    private boolean edited;
+
+    @Setup
+    public void setUp() {
+        index = new ProjectKeywordIndex(3.0, 2.0, 1.0);
+        List<Project> data = BenchmarkData.projects(projects, projects, 1L);
+        List<Project> indexed = new ArrayList<>(data.size());
+        for (int i = 0; i < data.size(); i++) {
+            indexed.add(data.get(i).withId(i + 1L));
+        }
+        index.indexAll(indexed);
+
+        originals = new Project[ROTATION];
+        edits = new Project[ROTATION];
+        int step = projects / ROTATION;
+        for (int i = 0; i < ROTATION; i++) {
+            Project original = indexed.get(i * step);
+            originals[i] = original;
+            edits[i] = original.toBuilder().description(original.getDescription() + " 수정").build();
+        }
+    }
+
+    @Benchmark
+    public int edited() {
+        int i = next();
+        // 같은 프로젝트를 다시 고칠 때 원래 텍스트로 돌아가도록 번갈아 쓴다.
+        index.index(edited ? originals[i] : edits[i]);
+        if (i == ROTATION - 1) {
+            edited = !edited;
+        }
+        return i;
+    }
+
+    @Benchmark
+    public int unchanged() {
+        int i = next();
+        index.index(originals[i]);
+        return i;
+    }
+
+    private int next() {
+        next = (next + 1) % ROTATION;
+        return next;
+    }
+}
@@ -0,0 +1,70 @@
+package com.founder.match.user.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 로그인 경로의 비밀번호 해시 비용. matches 는 로그인마다, hash 는 가입과 재해시 때 한 번씩 든다.
+ * legacyMatches 는 이전 버전의 평문 비교이며, needsRehash 는 해시 계산 없이 접두어와 cost 만 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery";
+
+    @Param({"10"})
+    int cost;
+
+    private PasswordHasher hasher;
+    private String stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hasher = new PasswordHasher(cost, 1, 16);
+        stored = hasher.hash(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hasher.destroy();
+    }
+
+    @Benchmark
+    public String hash() {
+        return hasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return hasher.matches(PASSWORD, stored);
+    }
+
+    @Benchmark
+    public boolean legacyMatches() {
+        return hasher.matches(PASSWORD, PASSWORD);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean needsRehash() {
+        return hasher.needsRehash(stored);
+    }
+}
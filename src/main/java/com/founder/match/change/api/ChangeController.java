@@ -0,0 +1,76 @@
+package com.founder.match.change.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.founder.match.change.domain.ChangeEvent;
+import com.founder.match.change.dto.ChangeBatchResponse;
+import com.founder.match.change.dto.ChangeEventResponse;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.change.service.ChangeLogTruncatedException;
+
+/**
+ * 변경 로그(CDC) 조회 API.
+ * since 이후의 변경을 최대 limit 건 묶어 돌려주고, 아직 없으면 새 변경이 기록되거나 타임아웃될 때까지 응답을 미룬다(long-poll).
+ * 기다리는 동안 요청 스레드는 반환된다.
+ */
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeController {
+
+    private final ChangeEventLog changeLog;
+    private final long longPollTimeoutMillis;
+
+    public ChangeController(ChangeEventLog changeLog,
+                            @Value("${changes.long-poll-timeout-ms:30000}") long longPollTimeoutMillis) {
+        this.changeLog = changeLog;
+        this.longPollTimeoutMillis = longPollTimeoutMillis;
+    }
+
+    @GetMapping
+    public DeferredResult<ChangeBatchResponse> getChanges(@RequestParam long since,
+                                                          @RequestParam(defaultValue = "500") int limit) {
+        if (limit < 1 || limit > ChangeEventLog.MAX_BATCH) {
+            throw new IllegalArgumentException("limit은 1 이상 " + ChangeEventLog.MAX_BATCH + " 이하여야 합니다.");
+        }
+        DeferredResult<ChangeBatchResponse> result =
+                new DeferredResult<>(longPollTimeoutMillis, () -> batch(since, List.of()));
+
+        List<ChangeEvent> events = changeLog.read(since, limit);
+        if (!events.isEmpty()) {
+            result.setResult(batch(since, events));
+            return result;
+        }
+        Runnable cancel = changeLog.onAvailable(since, () -> {
+            try {
+                result.setResult(batch(since, changeLog.read(since, limit)));
+            } catch (ChangeLogTruncatedException e) {
+                result.setErrorResult(e);
+            }
+        });
+        result.onCompletion(cancel);
+        return result;
+    }
+
+    /**
+     * 지금부터의 변경만 받으려는 새 소비자가 시작할 offset.
+     */
+    @GetMapping("/head")
+    public ChangeBatchResponse getHead() {
+        return batch(changeLog.head(), List.of());
+    }
+
+    private ChangeBatchResponse batch(long since, List<ChangeEvent> events) {
+        List<ChangeEventResponse> responses = events.stream()
+                .map(ChangeEventResponse::from)
+                .collect(Collectors.toList());
+        return new ChangeBatchResponse(changeLog.instance(), responses, since + events.size());
+    }
+}
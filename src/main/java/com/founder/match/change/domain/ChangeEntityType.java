@@ -0,0 +1,10 @@
+package com.founder.match.change.domain;
+
+/**
+ * 변경 이벤트가 가리키는 엔티티 종류.
+ */
+public enum ChangeEntityType {
+    USER,
+    PROFILE,
+    PROJECT
+}
@@ -0,0 +1,22 @@
+package com.founder.match.change.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 변경 로그의 한 항목. offset 은 로그 안에서 0 부터 1씩 늘어나는 전역 순번이다.
+ * entityId 는 사용자/프로젝트는 id, 프로필은 userId 이며, 삭제면 entity 는 null 이다.
+ * version 은 같은 엔티티의 항목끼리만 비교하며 클수록 나중 상태다. entity 는 기록 시점의 스냅샷으로 이후 바뀌지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeEvent {
+
+    private final long offset;
+    private final ChangeEntityType entityType;
+    private final ChangeOperation operation;
+    private final long entityId;
+    private final long version;
+    private final Object entity;
+    private final long timestamp;
+}
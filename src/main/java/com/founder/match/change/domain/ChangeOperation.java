@@ -0,0 +1,9 @@
+package com.founder.match.change.domain;
+
+/**
+ * 변경 종류. 생성과 수정은 모두 SAVE 다.
+ */
+public enum ChangeOperation {
+    SAVE,
+    DELETE
+}
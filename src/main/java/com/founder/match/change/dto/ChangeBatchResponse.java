@@ -0,0 +1,19 @@
+package com.founder.match.change.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 변경 로그 조회 응답. 다음 요청은 nextOffset 을 since 로 보낸다.
+ * instance 가 바뀌었으면 서버가 재시작되어 offset 이 처음부터 다시 시작된 것이다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChangeBatchResponse {
+
+    private final String instance;
+    private final List<ChangeEventResponse> events;
+    private final long nextOffset;
+}
@@ -0,0 +1,57 @@
+package com.founder.match.change.dto;
+
+import java.util.Locale;
+
+import com.founder.match.change.domain.ChangeEvent;
+import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.dto.FounderProfileResponse;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.dto.ProjectResponse;
+import com.founder.match.user.domain.User;
+import com.founder.match.user.dto.UserResponse;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 변경 이벤트 응답 DTO. type 은 user|profile|project, operation 은 save|delete 이며
+ * data 는 조회 API 의 응답 DTO 와 같은 모양이다(삭제면 null).
+ * 같은 type/id 의 이벤트는 version 이 큰 쪽이 나중 상태이므로, 이미 적용한 version 이하의 이벤트는 건너뛴다.
+ */
+@Getter
+@Builder
+public class ChangeEventResponse {
+
+    private final long offset;
+    private final String type;
+    private final String operation;
+    private final long id;
+    private final long version;
+    private final long timestamp;
+    private final Object data;
+
+    public static ChangeEventResponse from(ChangeEvent event) {
+        return ChangeEventResponse.builder()
+                .offset(event.getOffset())
+                .type(event.getEntityType().name().toLowerCase(Locale.ROOT))
+                .operation(event.getOperation().name().toLowerCase(Locale.ROOT))
+                .id(event.getEntityId())
+                .version(event.getVersion())
+                .timestamp(event.getTimestamp())
+                .data(toResponse(event.getEntity()))
+                .build();
+    }
+
+    private static Object toResponse(Object entity) {
+        if (entity instanceof Project project) {
+            return ProjectResponse.from(project);
+        }
+        if (entity instanceof FounderProfile profile) {
+            return FounderProfileResponse.from(profile);
+        }
+        if (entity instanceof User user) {
+            return UserResponse.from(user);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,199 @@
+package com.founder.match.change.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.domain.ChangeEvent;
+import com.founder.match.change.domain.ChangeOperation;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자/프로필/프로젝트 저장소의 저장·삭제를 순서대로 기록하는 프로세스 내 변경 로그.
+ * 크기가 2의 거듭제곱인 링 버퍼로, 쓰기는 offset 을 AtomicLong 으로 받아 해당 칸에 CAS 로 넣기만 하므로 잠금이 없다.
+ * 버퍼가 한 바퀴 돌면 가장 오래된 항목부터 덮어쓴다.
+ * 대기 중인 long-poll 요청은 쓰기 스레드가 아닌 별도 알림 스레드에서 깨운다(저장소의 compute 안에서 불리기 때문).
+ * 항목마다 같은 엔티티의 변경끼리 비교하는 version 을 싣는다. 인메모리 저장소는 compute 안에서 기록해 offset 이 곧 반영 순서이고,
+ * 반영과 기록을 한 번에 묶을 수 없는 JDBC 저장소는 행의 version 컬럼 값을 넘긴다. 이 경우 같은 엔티티의 항목이
+ * offset 순서와 다르게 놓일 수 있으므로, 소비자는 이미 적용한 것보다 version 이 작거나 같은 항목을 건너뛴다.
+ * entity 는 기록 후 바뀌지 않는 스냅샷이어야 한다.
+ */
+@Slf4j
+@Component
+public class ChangeEventLog implements DisposableBean {
+
+    public static final int MAX_BATCH = 1000;
+
+    /** 재시작하면 offset 이 0 부터 다시 시작하므로, 소비자가 이를 알아챌 수 있도록 응답에 함께 싣는다. */
+    private static final String INSTANCE = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicReferenceArray<ChangeEvent> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong nextOffset = new AtomicLong(0L);
+    private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeScheduled = new AtomicBoolean();
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-log-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChangeEventLog(@Value("${changes.buffer-capacity:65536}") int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        log.info("변경 로그 초기화: capacity={}", capacity);
+    }
+
+    /**
+     * 기록 순서가 곧 반영 순서인 저장소용. version 은 offset 과 같다.
+     */
+    public void saved(ChangeEntityType entityType, long entityId, Object entity) {
+        append(entityType, ChangeOperation.SAVE, entityId, -1L, entity);
+    }
+
+    public void deleted(ChangeEntityType entityType, long entityId) {
+        append(entityType, ChangeOperation.DELETE, entityId, -1L, null);
+    }
+
+    /**
+     * 저장소가 정한 version 으로 기록한다. 같은 엔티티의 나중 변경일수록 version 이 커야 한다.
+     */
+    public void saved(ChangeEntityType entityType, long entityId, long version, Object entity) {
+        append(entityType, ChangeOperation.SAVE, entityId, version, entity);
+    }
+
+    public void deleted(ChangeEntityType entityType, long entityId, long version) {
+        append(entityType, ChangeOperation.DELETE, entityId, version, null);
+    }
+
+    public String instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 다음에 기록될 offset. 지금부터의 변경만 받으려면 이 값부터 읽는다.
+     */
+    public long head() {
+        return nextOffset.get();
+    }
+
+    /**
+     * since 부터 최대 limit 건. 아직 기록이 끝나지 않은 offset 을 만나면 그 앞까지만 돌려준다.
+     *
+     * @throws IllegalArgumentException since 가 음수인 경우
+     * @throws ChangeLogTruncatedException since 가 이미 덮어쓰였거나 head 보다 큰 경우
+     */
+    public List<ChangeEvent> read(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since는 0 이상이어야 합니다.");
+        }
+        long head = nextOffset.get();
+        if (since > head || since < head - capacity) {
+            throw truncated(since, head);
+        }
+        List<ChangeEvent> events = new ArrayList<>((int) Math.min(limit, head - since));
+        for (long offset = since; offset < head && events.size() < limit; offset++) {
+            ChangeEvent event = slots.get(slot(offset));
+            if (event == null || event.getOffset() < offset) {
+                break;
+            }
+            if (event.getOffset() > offset) {
+                throw truncated(since, nextOffset.get());
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * since 위치의 항목이 기록되면 callback 을 한 번 실행한다. 이미 기록돼 있으면 바로 실행한다.
+     *
+     * @return 더 기다릴 필요가 없어졌을 때(타임아웃 등) 등록을 취소하는 함수
+     */
+    public Runnable onAvailable(long since, Runnable callback) {
+        Waiter waiter = new Waiter(since, callback);
+        waiters.add(waiter);
+        // 등록 직전에 기록되어 알림을 놓친 경우를 위해 한 번 더 확인한다.
+        if (isWritten(since) && waiters.remove(waiter)) {
+            callback.run();
+        }
+        return () -> waiters.remove(waiter);
+    }
+
+    @Override
+    public void destroy() {
+        notifier.shutdownNow();
+    }
+
+    private void append(ChangeEntityType entityType, ChangeOperation operation, long entityId, long version, Object entity) {
+        long offset = nextOffset.getAndIncrement();
+        ChangeEvent event = new ChangeEvent(offset, entityType, operation, entityId, version < 0 ? offset : version,
+                entity, System.currentTimeMillis());
+        int slot = slot(offset);
+        ChangeEvent current;
+        do {
+            current = slots.get(slot);
+            // 늦게 도착한 쓰기가 이미 한 바퀴 앞선 항목을 덮지 않도록 한다.
+            if (current != null && current.getOffset() > offset) {
+                return;
+            }
+        } while (!slots.compareAndSet(slot, current, event));
+
+        if (!waiters.isEmpty() && wakeScheduled.compareAndSet(false, true)) {
+            notifier.execute(this::wakeWaiters);
+        }
+    }
+
+    private void wakeWaiters() {
+        wakeScheduled.set(false);
+        for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext(); ) {
+            Waiter waiter = iterator.next();
+            if (isWritten(waiter.since) && waiters.remove(waiter)) {
+                try {
+                    waiter.callback.run();
+                } catch (RuntimeException e) {
+                    log.warn("변경 로그 대기자 알림 실패: since={}", waiter.since, e);
+                }
+            }
+        }
+    }
+
+    private boolean isWritten(long offset) {
+        ChangeEvent event = slots.get(slot(offset));
+        return offset < nextOffset.get() && event != null && event.getOffset() >= offset;
+    }
+
+    private int slot(long offset) {
+        return (int) (offset & mask);
+    }
+
+    private ChangeLogTruncatedException truncated(long since, long head) {
+        return new ChangeLogTruncatedException("offset " + since + " 은 변경 로그에 남아 있지 않습니다. "
+                + "전체 내보내기로 다시 맞춘 뒤 head(" + head + ") 부터 읽어 주세요.");
+    }
+
+    private static final class Waiter {
+
+        private final long since;
+        private final Runnable callback;
+
+        private Waiter(long since, Runnable callback) {
+            this.since = since;
+            this.callback = callback;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.founder.match.change.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 요청한 offset 이 링 버퍼에 남아 있지 않을 때 던진다. 410 으로 응답된다.
+ * 소비자는 전체 내보내기(/api/export)로 다시 맞춘 뒤 현재 head 부터 이어 읽어야 한다.
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class ChangeLogTruncatedException extends RuntimeException {
+
+    public ChangeLogTruncatedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.founder.match.common.bulk;
+
+import java.util.List;
+
+/**
+ * 검증을 통과한 한 묶음의 입력을 저장하고, 저장하지 못한 줄의 오류를 돌려준다.
+ */
+@FunctionalInterface
+public interface BulkBatchHandler<T> {
+    List<BulkRowError> handle(List<BulkRow<T>> rows);
+}
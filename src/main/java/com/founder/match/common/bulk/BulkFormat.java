@@ -0,0 +1,11 @@
+package com.founder.match.common.bulk;
+
+/**
+ * 일괄 등록 요청 본문 형식.
+ */
+public enum BulkFormat {
+    /** 한 줄에 JSON 객체 하나. */
+    NDJSON,
+    /** 첫 줄은 필드 이름 헤더. 따옴표 안의 줄바꿈은 지원하지 않는다. */
+    CSV
+}
@@ -0,0 +1,17 @@
+package com.founder.match.common.bulk;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 등록 결과. errors 는 앞에서부터 최대 BulkRowReader.MAX_REPORTED_ERRORS 건만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkImportResult {
+    private final long created;
+    private final long failed;
+    private final List<BulkRowError> errors;
+}
@@ -0,0 +1,14 @@
+package com.founder.match.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검증을 통과한 입력 한 줄과 그 줄 번호(1부터).
+ */
+@Getter
+@AllArgsConstructor
+public class BulkRow<T> {
+    private final long line;
+    private final T value;
+}
@@ -0,0 +1,14 @@
+package com.founder.match.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 등록하지 못한 입력 줄과 그 이유.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkRowError {
+    private final long line;
+    private final String message;
+}
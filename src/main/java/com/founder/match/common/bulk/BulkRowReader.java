@@ -0,0 +1,183 @@
+package com.founder.match.common.bulk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON/CSV 요청 본문을 한 줄씩 읽어 DTO 로 변환하고 Bean Validation 으로 검증한다.
+ * 통과한 줄은 batchSize 단위로 모아 handler 에 넘기므로 본문 전체를 메모리에 올리지 않는다.
+ * 형식/검증 오류는 줄 번호와 함께 모으고 나머지 줄은 계속 처리한다.
+ */
+@Slf4j
+@Component
+public class BulkRowReader {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String LIST_SEPARATOR = ";";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+
+    public BulkRowReader(ObjectMapper objectMapper,
+                         Validator validator,
+                         @Value("${bulk.batch-size:1000}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param listColumns CSV 에서 ';' 로 나눠 목록으로 바꿀 컬럼 이름
+     */
+    public <T> BulkImportResult read(InputStream body,
+                                     BulkFormat format,
+                                     Class<T> rowType,
+                                     Set<String> listColumns,
+                                     BulkBatchHandler<T> handler) throws IOException {
+        Report report = new Report();
+        List<BulkRow<T>> batch = new ArrayList<>(batchSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        String[] header = null;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == BulkFormat.CSV && header == null) {
+                header = Arrays.stream(splitCsv(line)).map(String::trim).toArray(String[]::new);
+                continue;
+            }
+
+            T value;
+            try {
+                value = format == BulkFormat.CSV
+                        ? objectMapper.convertValue(csvRow(header, splitCsv(line), listColumns), rowType)
+                        : objectMapper.readValue(line, rowType);
+            } catch (JacksonException e) {
+                report.fail(new BulkRowError(lineNumber, "형식이 올바르지 않습니다: " + e.getOriginalMessage()));
+                continue;
+            } catch (IllegalArgumentException e) {
+                report.fail(new BulkRowError(lineNumber, "형식이 올바르지 않습니다: " + e.getMessage()));
+                continue;
+            }
+
+            Set<ConstraintViolation<T>> violations = validator.validate(value);
+            if (!violations.isEmpty()) {
+                report.fail(new BulkRowError(lineNumber, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "))));
+                continue;
+            }
+
+            batch.add(new BulkRow<>(lineNumber, value));
+            if (batch.size() >= batchSize) {
+                report.flush(batch, handler);
+            }
+        }
+        report.flush(batch, handler);
+
+        log.info("일괄 등록 처리 완료: rowType={}, lines={}, created={}, failed={}",
+                rowType.getSimpleName(), lineNumber, report.created, report.failed);
+        return new BulkImportResult(report.created, report.failed, report.errors);
+    }
+
+    private static Map<String, Object> csvRow(String[] header, String[] cells, Set<String> listColumns) {
+        if (cells.length > header.length) {
+            throw new IllegalArgumentException("컬럼 수가 헤더보다 많습니다.");
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < cells.length; i++) {
+            String cell = cells[i];
+            if (cell.isEmpty()) {
+                continue;
+            }
+            row.put(header[i], listColumns.contains(header[i])
+                    ? Arrays.stream(cell.split(LIST_SEPARATOR)).map(String::trim).collect(Collectors.toList())
+                    : cell);
+        }
+        return row;
+    }
+
+    /**
+     * 쉼표로 구분된 한 줄을 나눈다. 큰따옴표로 감싼 셀 안의 쉼표와 "" (따옴표 escape)를 처리한다.
+     */
+    private static String[] splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        cells.add(cell.toString());
+        return cells.toArray(String[]::new);
+    }
+
+    private static final class Report {
+
+        private long created;
+        private long failed;
+        private final List<BulkRowError> errors = new ArrayList<>();
+
+        private void fail(BulkRowError error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        private <T> void flush(List<BulkRow<T>> batch, BulkBatchHandler<T> handler) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<BulkRowError> rejected = handler.handle(new ArrayList<>(batch));
+            rejected.forEach(this::fail);
+            created += batch.size() - rejected.size();
+            batch.clear();
+        }
+    }
+}
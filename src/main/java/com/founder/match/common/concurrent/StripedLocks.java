@@ -0,0 +1,62 @@
+package com.founder.match.common.concurrent;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * long 키 단위로 작업을 줄 세우는 고정 크기 잠금 묶음.
+ * 키마다 잠금을 만들지 않고 해시로 stripe 를 고르므로, 서로 다른 키가 같은 stripe 를 나눠 쓸 수는 있어도
+ * 같은 키에 대한 작업이 겹치는 일은 없다.
+ */
+public final class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes stripe 개수. 2의 거듭제곱으로 올려 잡는다.
+     */
+    public StripedLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(2, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public <R> R locked(long key, Supplier<R> action) {
+        ReentrantLock lock = locks[index(key)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 여러 키를 한 번에 바꾸는 batch 용. 교착을 피하려고 잠금은 항상 stripe 번호 순으로 잡는다.
+     */
+    public void lockedAll(long[] keys, Runnable action) {
+        int[] indexes = Arrays.stream(keys).mapToInt(this::index).distinct().sorted().toArray();
+        int held = 0;
+        try {
+            for (int index : indexes) {
+                locks[index].lock();
+                held++;
+            }
+            action.run();
+        } finally {
+            for (int i = held - 1; i >= 0; i--) {
+                locks[indexes[i]].unlock();
+            }
+        }
+    }
+
+    private int index(long key) {
+        int hash = Long.hashCode(key);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
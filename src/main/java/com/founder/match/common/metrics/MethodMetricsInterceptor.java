@@ -0,0 +1,166 @@
+package com.founder.match.common.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ReflectionUtils;
+
+import com.founder.match.common.page.CursorPage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 빈 하나의 메서드 호출마다 소요 시간, 결과 건수, Optional 조회 적중 여부, 훑은 후보 수를 기록한다.
+ * 미터는 메서드별로 처음 호출될 때 한 번만 등록하고, 이후 호출은 맵 조회와 nanoTime 두 번으로 끝난다.
+ */
+final class MethodMetricsInterceptor implements MethodInterceptor {
+
+    static final String DURATION = "founder.match.method.duration";
+    static final String RESULT_SIZE = "founder.match.method.result.size";
+    static final String LOOKUPS = "founder.match.method.lookups";
+    static final String SCANNED = "founder.match.method.scanned";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String layer;
+    private final String className;
+    private final ConcurrentMap<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    MethodMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String layer, String className) {
+        this.meterRegistry = meterRegistry;
+        this.layer = layer;
+        this.className = className;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (ReflectionUtils.isObjectMethod(method)) {
+            return invocation.proceed();
+        }
+        MethodMeters methodMeters = meters.get(method);
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(method, this::register);
+        }
+
+        long scannedBefore = ScanCounter.current();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            methodMeters.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        methodMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        methodMeters.recordResult(result);
+        long scanned = ScanCounter.current() - scannedBefore;
+        if (scanned > 0) {
+            methodMeters.scanned().record(scanned);
+        }
+        return result;
+    }
+
+    private MethodMeters register(Method method) {
+        return new MethodMeters(meterRegistry.getObject(),
+                Tags.of("layer", layer, "class", className, "method", method.getName()),
+                method.getReturnType());
+    }
+
+    private static final class MethodMeters {
+
+        private final MeterRegistry registry;
+        private final Tags tags;
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary resultSize;
+        private final Counter hits;
+        private final Counter misses;
+        private volatile DistributionSummary scanned;
+
+        private MethodMeters(MeterRegistry registry, Tags tags, Class<?> returnType) {
+            this.registry = registry;
+            this.tags = tags;
+            this.success = timer(registry, tags, "success");
+            this.failure = timer(registry, tags, "error");
+            this.resultSize = hasSize(returnType)
+                    ? DistributionSummary.builder(RESULT_SIZE)
+                            .description("결과 건수")
+                            .baseUnit("items")
+                            .tags(tags)
+                            .register(registry)
+                    : null;
+            boolean lookup = Optional.class.equals(returnType);
+            this.hits = lookup ? lookupCounter(registry, tags, "hit") : null;
+            this.misses = lookup ? lookupCounter(registry, tags, "miss") : null;
+        }
+
+        private void recordResult(Object result) {
+            if (resultSize != null && result != null) {
+                resultSize.record(sizeOf(result));
+            } else if (hits != null) {
+                (result instanceof Optional<?> optional && optional.isPresent() ? hits : misses).increment();
+            }
+        }
+
+        private DistributionSummary scanned() {
+            DistributionSummary summary = scanned;
+            if (summary == null) {
+                summary = DistributionSummary.builder(SCANNED)
+                        .description("필터링을 위해 훑은 후보 수")
+                        .baseUnit("items")
+                        .tags(tags)
+                        .register(registry);
+                scanned = summary;
+            }
+            return summary;
+        }
+
+        private static Timer timer(MeterRegistry registry, Tags tags, String outcome) {
+            return Timer.builder(DURATION)
+                    .description("서비스/저장소 메서드 소요 시간")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+
+        private static Counter lookupCounter(MeterRegistry registry, Tags tags, String result) {
+            return Counter.builder(LOOKUPS)
+                    .description("Optional 을 돌려주는 조회의 적중/미적중 횟수")
+                    .tags(tags)
+                    .tag("result", result)
+                    .register(registry);
+        }
+
+        private static boolean hasSize(Class<?> type) {
+            return Collection.class.isAssignableFrom(type)
+                    || Map.class.isAssignableFrom(type)
+                    || CursorPage.class.isAssignableFrom(type)
+                    || int[].class.equals(type);
+        }
+
+        private static int sizeOf(Object result) {
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (result instanceof Map<?, ?> map) {
+                return map.size();
+            }
+            if (result instanceof CursorPage<?> page) {
+                return page.getItems().size();
+            }
+            return ((int[]) result).length;
+        }
+    }
+}
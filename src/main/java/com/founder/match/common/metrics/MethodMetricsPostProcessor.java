@@ -0,0 +1,71 @@
+package com.founder.match.common.metrics;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @Service / @Repository 빈을 MethodMetricsInterceptor 로 감싸 메서드별 지표를 남긴다.
+ * 이미 프록시인 빈(예: @Repository 예외 변환 프록시)에는 advice 만 덧붙인다.
+ * MeterRegistry 는 첫 호출 때 꺼내므로 후처리기가 레지스트리를 일찍 초기화하지 않는다.
+ * @WithoutMethodMetrics 가 붙은 빈은 감싸지 않는다.
+ * metrics.methods.enabled=false 이면 아무것도 감싸지 않는다(오버헤드 비교용).
+ */
+@Component
+public class MethodMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+
+    public MethodMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                      @Value("${metrics.methods.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled) {
+            return bean;
+        }
+        Class<?> targetClass = ClassUtils.getUserClass(AopUtils.getTargetClass(bean));
+        String layer = layerOf(targetClass);
+        if (layer == null) {
+            return bean;
+        }
+
+        MethodMetricsInterceptor interceptor =
+                new MethodMetricsInterceptor(meterRegistry, layer, targetClass.getSimpleName());
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(targetClass.getClassLoader());
+    }
+
+    private static String layerOf(Class<?> targetClass) {
+        if (AnnotatedElementUtils.hasAnnotation(targetClass, WithoutMethodMetrics.class)) {
+            return null;
+        }
+        if (AnnotatedElementUtils.hasAnnotation(targetClass, Service.class)) {
+            return "service";
+        }
+        if (AnnotatedElementUtils.hasAnnotation(targetClass, Repository.class)) {
+            return "repository";
+        }
+        return null;
+    }
+}
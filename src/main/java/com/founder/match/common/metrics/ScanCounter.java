@@ -0,0 +1,21 @@
+package com.founder.match.common.metrics;
+
+/**
+ * 현재 스레드에서 훑은 후보 수 누적값.
+ * 인덱스 결과를 다시 걸러내는 루프에서 add 하면 MethodMetricsInterceptor 가 호출 전후 차이를 메서드별 scanned 분포로 기록한다.
+ */
+public final class ScanCounter {
+
+    private static final ThreadLocal<long[]> SCANNED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private ScanCounter() {
+    }
+
+    public static void add(long count) {
+        SCANNED.get()[0] += count;
+    }
+
+    static long current() {
+        return SCANNED.get()[0];
+    }
+}
@@ -0,0 +1,18 @@
+package com.founder.match.common.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * MethodMetricsPostProcessor 가 감싸지 않을 빈.
+ * 메서드 한 번이 계측 비용(호출당 수백 ns)보다 싼 인메모리 저장소처럼, 지표 기록이 호출 비용을 압도하는 빈에 붙인다.
+ * 이런 빈에서 쓴 시간과 훑은 후보 수는 부른 서비스 메서드의 지표에 그대로 잡힌다.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WithoutMethodMetrics {
+}
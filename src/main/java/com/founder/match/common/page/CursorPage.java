@@ -0,0 +1,52 @@
+package com.founder.match.common.page;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * id 기준 keyset 페이지 응답.
+ * nextCursor 가 null 이면 마지막 페이지다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * limit + 1 건까지 조회한 결과로 페이지를 만든다.
+     * 초과분이 있으면 마지막 항목의 키를 다음 커서로 사용한다.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, ToLongFunction<T> keyOf) {
+        return ofCursor(fetched, limit, item -> Cursors.encode(keyOf.applyAsLong(item)));
+    }
+
+    /**
+     * of 와 같지만 다음 커서를 마지막 항목에서 직접 만든다. 정렬 값과 id 를 함께 담는 커서에 쓴다.
+     */
+    public static <T> CursorPage<T> ofCursor(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+}
@@ -0,0 +1,83 @@
+package com.founder.match.common.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 커서 인코딩/디코딩.
+ * 클라이언트에는 의미를 알 수 없는 문자열로만 노출한다.
+ */
+public final class Cursors {
+
+    private Cursors() {
+    }
+
+    public static String encode(long key) {
+        return encodeText(Long.toString(key));
+    }
+
+    /**
+     * 정렬 값과 id 쌍으로 된 커서. 정렬 값이 같은 항목끼리는 id 로 위치를 정한다.
+     */
+    public static String encode(long sortKey, long id) {
+        return encodeText(sortKey + ":" + id);
+    }
+
+    /**
+     * 커서를 마지막으로 반환된 키로 복원한다. 커서가 없으면 null.
+     *
+     * @throws IllegalArgumentException 형식이 틀렸거나 키가 음수인 경우
+     */
+    public static Long decode(String cursor) {
+        return decode(cursor, Long.MAX_VALUE);
+    }
+
+    /**
+     * decode 와 같고, 키가 maxKey 보다 크면 거절한다. int 로 색인하는 id(프로젝트)에 쓴다.
+     */
+    public static Long decode(String cursor, long maxKey) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        long key;
+        try {
+            key = Long.parseLong(decodeText(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (key < 0 || key > maxKey) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return key;
+    }
+
+    /**
+     * encode(sortKey, id) 로 만든 커서를 {sortKey, id} 로 복원한다. 커서가 없으면 null.
+     */
+    public static long[] decodePair(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String text = decodeText(cursor);
+            int separator = text.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException();
+            }
+            return new long[]{
+                    Long.parseLong(text.substring(0, separator)),
+                    Long.parseLong(text.substring(separator + 1))
+            };
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private static String encodeText(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeText(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
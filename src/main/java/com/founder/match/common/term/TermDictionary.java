@@ -0,0 +1,158 @@
+package com.founder.match.common.term;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스킬/관심사 태그 문자열 -> 작은 정수 id 사전.
+ * 프로필마다 반복되는 태그("java", "마케팅" 등)를 한 벌만 보관하고,
+ * 도메인 객체는 int 배열로만 태그를 들고 있도록 하기 위해 사용한다.
+ * 태그는 앞뒤 공백을 없애고 연속 공백을 하나로 줄인 뒤 소문자로 바꿔 넣으므로 "Java", " java" 는 같은 태그다.
+ * id는 0부터 순서대로 부여되며 한 번 부여된 id는 바뀌지 않는다. 항목을 지우지 않는 대신
+ * 요청으로 들어오는 새 태그는 maxTerms 종류까지만 받는다({@link #internAll}).
+ * 저장소에서 읽어 들이는 값은 이미 받아들인 태그이므로 한도와 관계없이 넣는다({@link #restoreAll}).
+ */
+@Component
+public final class TermDictionary {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxTerms;
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile String[] terms = new String[256];
+    private int size;
+
+    public TermDictionary(@Value("${profile.tags.max-terms:100000}") int maxTerms) {
+        if (maxTerms <= 0) {
+            throw new IllegalArgumentException("profile.tags.max-terms 는 1 이상이어야 합니다: " + maxTerms);
+        }
+        this.maxTerms = maxTerms;
+    }
+
+    /**
+     * 태그를 정규화한 값. 공백뿐이면 null.
+     */
+    public static String normalize(String term) {
+        if (term == null || term.isBlank()) {
+            return null;
+        }
+        return WHITESPACE.matcher(term.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 요청으로 들어온 태그 하나의 id. 새 태그인데 사전이 가득 찼으면 IllegalArgumentException.
+     */
+    public int intern(String term) {
+        String normalized = normalize(term);
+        if (normalized == null) {
+            throw new IllegalArgumentException("빈 태그는 등록할 수 없습니다.");
+        }
+        return add(normalized, true);
+    }
+
+    /**
+     * 요청으로 들어온 태그 목록을 입력 순서대로, 정규화 후 중복과 빈 값을 뺀 id 배열로 바꾼다.
+     * 새 태그 때문에 사전 한도를 넘으면 IllegalArgumentException.
+     */
+    public int[] internAll(Collection<String> values) {
+        return encode(values, true);
+    }
+
+    /**
+     * 저장소(WAL, DB)에 이미 있는 태그 목록을 id 배열로 바꾼다. 사전 한도를 검사하지 않는다.
+     */
+    public int[] restoreAll(Collection<String> values) {
+        return encode(values, false);
+    }
+
+    public String term(int id) {
+        return terms[id];
+    }
+
+    public List<String> terms(int[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return Collections.emptyList();
+        }
+        String[] snapshot = terms;
+        List<String> values = new ArrayList<>(encoded.length);
+        for (int id : encoded) {
+            values.add(snapshot[id]);
+        }
+        return values;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private int[] encode(Collection<String> values, boolean bounded) {
+        if (values == null || values.isEmpty()) {
+            return new int[0];
+        }
+        int[] encoded = new int[values.size()];
+        int count = 0;
+        for (String value : values) {
+            String normalized = normalize(value);
+            if (normalized == null) {
+                continue;
+            }
+            int id = add(normalized, bounded);
+            if (!contains(encoded, count, id)) {
+                encoded[count++] = id;
+            }
+        }
+        return count == encoded.length ? encoded : Arrays.copyOf(encoded, count);
+    }
+
+    private int add(String normalized, boolean bounded) {
+        Integer id = ids.get(normalized);
+        if (id != null) {
+            return id;
+        }
+        lock.lock();
+        try {
+            id = ids.get(normalized);
+            if (id != null) {
+                return id;
+            }
+            int next = size;
+            if (bounded && next >= maxTerms) {
+                throw new IllegalArgumentException("더 이상 새 태그를 등록할 수 없습니다(최대 " + maxTerms + "종류): " + normalized);
+            }
+            String[] current = terms;
+            if (next == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[next] = normalized;
+            terms = current;
+            size = next + 1;
+            // 배열 기록이 끝난 뒤 map 에 공개해야 term(id) 조회가 항상 값을 본다.
+            ids.put(normalized, next);
+            return next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 프로필 한 건의 태그는 수십 개를 넘지 않으므로 선형 탐색으로 충분하다.
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
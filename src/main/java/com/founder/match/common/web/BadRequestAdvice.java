@@ -0,0 +1,22 @@
+package com.founder.match.common.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서비스가 잘못된 입력(없는 대상, 잘못된 커서/파라미터)에 던지는 IllegalArgumentException 을 400 으로 응답한다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class BadRequestAdvice {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleIllegalArgument(IllegalArgumentException e) {
+        log.debug("잘못된 요청: {}", e.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
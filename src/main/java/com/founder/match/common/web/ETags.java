@@ -0,0 +1,53 @@
+package com.founder.match.common.web;
+
+/**
+ * ETag 헤더 값 생성과 If-Match 해석.
+ * 단건은 id 와 version 으로, 목록은 저장소의 변경 횟수로 만든 강한 검증자를 쓴다.
+ */
+public final class ETags {
+
+    /**
+     * 인메모리 저장소의 변경 횟수는 재시작하면 0 부터 다시 세므로, 기동 시각을 섞어 이전 프로세스의 ETag 와 겹치지 않게 한다.
+     */
+    private static final String INSTANCE = Long.toString(System.currentTimeMillis(), 36);
+
+    private ETags() {
+    }
+
+    public static String of(long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * 저장소 변경 횟수로 만든 목록 응답용 ETag.
+     */
+    public static String ofCollection(String name, long modificationCount) {
+        return "\"" + name + "-" + INSTANCE + "-" + modificationCount + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 비교할 ETag 를 꺼낸다. 헤더가 없거나 "*" 이면 null.
+     * 여러 값 중 하나라도 맞으면 되는 경우는 지원하지 않으므로 첫 값만 본다.
+     */
+    public static String parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String value = ifMatch.split(",", 2)[0].trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            // If-Match 는 강한 비교만 허용하므로 약한 ETag 는 어떤 버전과도 일치하지 않는다.
+            throw new VersionConflictException("약한 ETag 는 If-Match 에 사용할 수 없습니다.");
+        }
+        return value;
+    }
+
+    /**
+     * If-Match 로 받은 값이 없거나 현재 id/version 의 ETag 와 같으면 true.
+     */
+    public static boolean matches(String expectedETag, long id, long version) {
+        return expectedETag == null || expectedETag.equals(of(id, version));
+    }
+}
@@ -0,0 +1,81 @@
+package com.founder.match.common.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.founder.match.common.page.CursorPage;
+
+/**
+ * 미리 직렬화해 둔 JSON 조각을 이어 붙여 응답 본문을 만드는 헬퍼.
+ * 조각은 다시 파싱하거나 복사하지 않고 출력 스트림에 그대로 쓴다.
+ */
+public final class JsonFragments {
+
+    private static final byte[] ITEMS_PREFIX = "{\"items\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEXT_CURSOR = "],\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private JsonFragments() {
+    }
+
+    public static ResponseEntity<byte[]> single(String eTag, byte[] json) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    /**
+     * JSON 배열 응답.
+     */
+    public static ResponseEntity<StreamingResponseBody> array(String eTag, List<byte[]> items) {
+        StreamingResponseBody body = out -> {
+            out.write('[');
+            writeItems(out, items);
+            out.write(']');
+        };
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * CursorPage 와 같은 모양({"items":[...],"nextCursor":...})의 응답.
+     * 커서는 URL-safe base64 문자열이라 따로 escape 하지 않는다.
+     */
+    public static ResponseEntity<StreamingResponseBody> page(String eTag, CursorPage<byte[]> page) {
+        StreamingResponseBody body = out -> {
+            out.write(ITEMS_PREFIX);
+            writeItems(out, page.getItems());
+            out.write(NEXT_CURSOR);
+            if (page.getNextCursor() == null) {
+                out.write(NULL);
+            } else {
+                out.write('"');
+                out.write(page.getNextCursor().getBytes(StandardCharsets.US_ASCII));
+                out.write('"');
+            }
+            out.write('}');
+        };
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static void writeItems(OutputStream out, List<byte[]> items) throws IOException {
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(items.get(i));
+        }
+    }
+}
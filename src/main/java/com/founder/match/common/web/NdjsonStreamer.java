@@ -0,0 +1,56 @@
+package com.founder.match.common.web;
+
+import java.util.function.Function;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.founder.match.common.page.CursorPage;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 커서 페이지를 차례로 읽어 NDJSON으로 바로 써 내려가는 응답 헬퍼.
+ * 전체 목록을 메모리에 올리지 않고 한 페이지 분량만 유지한다.
+ */
+@Component
+public class NdjsonStreamer {
+
+    public static final int CHUNK_SIZE = CursorPage.MAX_LIMIT;
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonStreamer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param pageLoader 커서(첫 페이지는 null)를 받아 CHUNK_SIZE 크기의 다음 페이지를 돌려주는 함수
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Function<String, CursorPage<T>> pageLoader) {
+        return streamSerialized(cursor -> pageLoader.apply(cursor).map(objectMapper::writeValueAsBytes));
+    }
+
+    /**
+     * 항목이 이미 JSON 바이트로 직렬화되어 있는 경우. 각 항목을 그대로 한 줄로 쓴다.
+     */
+    public ResponseEntity<StreamingResponseBody> streamSerialized(Function<String, CursorPage<byte[]>> pageLoader) {
+        StreamingResponseBody body = out -> {
+            String cursor = null;
+            do {
+                CursorPage<byte[]> page = pageLoader.apply(cursor);
+                for (byte[] item : page.getItems()) {
+                    out.write(item);
+                    out.write('\n');
+                }
+                out.flush();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,15 @@
+package com.founder.match.common.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 전용 작업 풀이 가득 차 요청을 받을 수 없을 때 던진다. 503 으로 응답된다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
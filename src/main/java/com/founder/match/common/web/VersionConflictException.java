@@ -0,0 +1,15 @@
+package com.founder.match.common.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * If-Match 로 보낸 버전이 현재 저장된 버전과 다를 때 던진다. 412 로 응답된다.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
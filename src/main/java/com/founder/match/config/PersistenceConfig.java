@@ -0,0 +1,69 @@
+package com.founder.match.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.founder.match.common.term.TermDictionary;
+import com.founder.match.persistence.RecordCodec;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.persistence.WalDurability;
+import com.founder.match.persistence.WriteAheadLog;
+import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.repository.FounderProfileRecordCodec;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.repository.ProjectRecordCodec;
+import com.founder.match.user.domain.User;
+import com.founder.match.user.repository.UserRecordCodec;
+
+/**
+ * 인메모리 저장소의 영속화(write-ahead log + 스냅샷) 설정.
+ * persistence.wal.enabled=false 이면 아무것도 기록하지 않는 journal 을 사용한다.
+ */
+@Configuration
+@EnableScheduling
+public class PersistenceConfig {
+
+    private final boolean walEnabled;
+    private final Path directory;
+    private final long maxPendingBytes;
+    private final WalDurability durability;
+    private final long fsyncIntervalMillis;
+
+    public PersistenceConfig(@Value("${persistence.wal.enabled:false}") boolean walEnabled,
+                             @Value("${persistence.wal.directory:data}") String directory,
+                             @Value("${persistence.wal.max-pending-bytes:8388608}") long maxPendingBytes,
+                             @Value("${persistence.wal.durability:sync}") WalDurability durability,
+                             @Value("${persistence.wal.fsync-interval-ms:10}") long fsyncIntervalMillis) {
+        this.walEnabled = walEnabled;
+        this.directory = Path.of(directory);
+        this.maxPendingBytes = maxPendingBytes;
+        this.durability = durability;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+    }
+
+    @Bean
+    public RepositoryJournal<User> userJournal() {
+        return journal("users", new UserRecordCodec());
+    }
+
+    @Bean
+    public RepositoryJournal<Project> projectJournal() {
+        return journal("projects", new ProjectRecordCodec());
+    }
+
+    @Bean
+    public RepositoryJournal<FounderProfile> founderProfileJournal(TermDictionary tags) {
+        return journal("founder-profiles", new FounderProfileRecordCodec(tags));
+    }
+
+    private <T> RepositoryJournal<T> journal(String name, RecordCodec<T> codec) {
+        if (!walEnabled) {
+            return RepositoryJournal.disabled();
+        }
+        return new WriteAheadLog<>(directory, name, codec, maxPendingBytes, durability, fsyncIntervalMillis);
+    }
+}
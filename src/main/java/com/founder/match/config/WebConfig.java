@@ -6,6 +6,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * 프론트엔드(Vite dev server)와의 CORS 허용 설정.
+ * If-Match 로 되돌려 보낼 수 있도록 ETag 헤더를 노출한다.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -15,6 +16,7 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:5173")
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
+                .exposedHeaders("ETag")
                 .allowCredentials(true);
     }
 }
@@ -0,0 +1,42 @@
+package com.founder.match.export.api;
+
+import java.time.LocalDate;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.founder.match.export.service.ExportService;
+
+/**
+ * 분석용 전체 데이터 내보내기 API.
+ */
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * 사용자/프로필/프로젝트 전체를 gzip 압축 NDJSON 파일로 내려준다.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export() {
+        String filename = "founder-match-" + LocalDate.now() + ".ndjson.gz";
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_GZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(exportService::writeGzipNdjson);
+    }
+}
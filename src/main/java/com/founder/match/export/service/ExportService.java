@@ -0,0 +1,96 @@
+package com.founder.match.export.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+
+import com.founder.match.profile.dto.FounderProfileResponse;
+import com.founder.match.profile.repository.FounderProfileRepository;
+import com.founder.match.project.dto.ProjectResponse;
+import com.founder.match.project.repository.ProjectRepository;
+import com.founder.match.user.dto.UserResponse;
+import com.founder.match.user.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 사용자/프로필/프로젝트 전체를 gzip 으로 압축한 NDJSON 으로 내보낸다.
+ * 각 줄은 {"type":"user|profile|project","data":{...}} 이며 data 는 조회 API 의 응답 DTO 와 같은 모양이다.
+ * 저장소를 forEach 로 순회하며 한 건씩 써 내려가므로 데이터 크기와 상관없이 메모리 사용량이 일정하다.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final byte[] USER_PREFIX = prefix("user");
+    private static final byte[] PROFILE_PREFIX = prefix("profile");
+    private static final byte[] PROJECT_PREFIX = prefix("project");
+    private static final byte[] SUFFIX = "}\n".getBytes(StandardCharsets.UTF_8);
+
+    private final UserRepository userRepository;
+    private final FounderProfileRepository profileRepository;
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(UserRepository userRepository,
+                         FounderProfileRepository profileRepository,
+                         ProjectRepository projectRepository,
+                         ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.profileRepository = profileRepository;
+        this.projectRepository = projectRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * out 은 닫지 않고 gzip 스트림만 마무리한다.
+     */
+    public void writeGzipNdjson(OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_BYTES);
+        BufferedOutputStream buffered = new BufferedOutputStream(gzip, BUFFER_BYTES);
+        long[] counts = new long[3];
+        try {
+            userRepository.forEach(user -> {
+                writeLine(buffered, USER_PREFIX, UserResponse.from(user));
+                counts[0]++;
+            });
+            profileRepository.forEach(profile -> {
+                writeLine(buffered, PROFILE_PREFIX, FounderProfileResponse.from(profile));
+                counts[1]++;
+            });
+            projectRepository.forEach(project -> {
+                writeLine(buffered, PROJECT_PREFIX, ProjectResponse.from(project));
+                counts[2]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등. 원래의 IOException 으로 돌려준다.
+            throw e.getCause();
+        }
+        buffered.flush();
+        gzip.finish();
+        log.info("전체 데이터 내보내기 완료: users={}, profiles={}, projects={}, elapsedMs={}",
+                counts[0], counts[1], counts[2], (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void writeLine(OutputStream out, byte[] prefix, Object data) {
+        try {
+            out.write(prefix);
+            out.write(objectMapper.writeValueAsBytes(data));
+            out.write(SUFFIX);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] prefix(String type) {
+        return ("{\"type\":\"" + type + "\",\"data\":").getBytes(StandardCharsets.UTF_8);
+    }
+}
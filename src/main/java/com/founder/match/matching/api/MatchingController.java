@@ -0,0 +1,58 @@
+package com.founder.match.matching.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.founder.match.matching.dto.FounderRecommendationResponse;
+import com.founder.match.matching.dto.ProjectRecommendationResponse;
+import com.founder.match.matching.dto.RecommendationCacheStats;
+import com.founder.match.matching.service.MatchingService;
+import com.founder.match.matching.service.RecommendationCache;
+
+/**
+ * 창업자-프로젝트 추천 REST API.
+ */
+@RestController
+@RequestMapping("/api")
+public class MatchingController {
+
+    private final MatchingService matchingService;
+    private final RecommendationCache recommendationCache;
+
+    public MatchingController(MatchingService matchingService, RecommendationCache recommendationCache) {
+        this.matchingService = matchingService;
+        this.recommendationCache = recommendationCache;
+    }
+
+    @GetMapping("/projects/{projectId}/recommended-founders")
+    public ResponseEntity<List<FounderRecommendationResponse>> getRecommendedFounders(@PathVariable Long projectId,
+                                                                                      @RequestParam(defaultValue = "10") int limit) {
+        List<FounderRecommendationResponse> responses = matchingService.recommendFounders(projectId, limit)
+                .stream()
+                .map(FounderRecommendationResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/users/{userId}/recommended-projects")
+    public ResponseEntity<List<ProjectRecommendationResponse>> getRecommendedProjects(@PathVariable Long userId,
+                                                                                      @RequestParam(defaultValue = "10") int limit) {
+        List<ProjectRecommendationResponse> responses = matchingService.recommendProjects(userId, limit)
+                .stream()
+                .map(ProjectRecommendationResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/matching/cache-stats")
+    public ResponseEntity<RecommendationCacheStats> getCacheStats() {
+        return ResponseEntity.ok(recommendationCache.stats());
+    }
+}
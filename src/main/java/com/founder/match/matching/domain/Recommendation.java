@@ -0,0 +1,15 @@
+package com.founder.match.matching.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 대상과 적합도 점수(0~1).
+ */
+@Getter
+@AllArgsConstructor
+public class Recommendation<T> {
+
+    private final T target;
+    private final double score;
+}
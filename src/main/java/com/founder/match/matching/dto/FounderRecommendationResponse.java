@@ -0,0 +1,25 @@
+package com.founder.match.matching.dto;
+
+import com.founder.match.matching.domain.Recommendation;
+import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.dto.FounderProfileResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 프로젝트별 추천 창업자 응답 DTO.
+ */
+@Getter
+@Builder
+public class FounderRecommendationResponse {
+
+    private final double score;
+    private final FounderProfileResponse founder;
+
+    public static FounderRecommendationResponse from(Recommendation<FounderProfile> recommendation) {
+        return FounderRecommendationResponse.builder()
+                .score(recommendation.getScore())
+                .founder(FounderProfileResponse.from(recommendation.getTarget()))
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.founder.match.matching.dto;
+
+import com.founder.match.matching.domain.Recommendation;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.dto.ProjectResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자별 추천 프로젝트 응답 DTO.
+ */
+@Getter
+@Builder
+public class ProjectRecommendationResponse {
+
+    private final double score;
+    private final ProjectResponse project;
+
+    public static ProjectRecommendationResponse from(Recommendation<Project> recommendation) {
+        return ProjectRecommendationResponse.builder()
+                .score(recommendation.getScore())
+                .project(ProjectResponse.from(recommendation.getTarget()))
+                .build();
+    }
+}
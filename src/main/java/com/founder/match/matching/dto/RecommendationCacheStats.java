@@ -0,0 +1,23 @@
+package com.founder.match.matching.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 추천 캐시 지표 응답 DTO.
+ */
+@Getter
+@Builder
+public class RecommendationCacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long bypasses;
+    private final long rebuilds;
+    private final long incrementalUpdates;
+    private final long invalidations;
+    private final long evictions;
+    private final int entries;
+    private final long estimatedBytes;
+    private final long maxBytes;
+}
@@ -0,0 +1,87 @@
+package com.founder.match.matching.service;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 도메인/협업 방식 facet 이 같은 추천 후보 묶음. 묶음 안의 후보는 상대가 누구든 facet 점수가 같다.
+ * 후보의 토큰은 그룹(프로젝트 본문, 프로필 스킬/관심사)별로 해시 칸마다 개수만 세어 두어,
+ * 칸이 0 이면 묶음 안에 그 토큰을 가진 후보가 없다고 확정한다. 다른 토큰과 칸이 겹치면
+ * 점수 상한이 느슨해질 뿐 추천 결과는 바뀌지 않는다.
+ */
+final class FacetBucket<V> {
+
+    final int domainBits;
+    final int workStyleBits;
+    private final ConcurrentMap<Long, V> members = new ConcurrentHashMap<>();
+    private final AtomicIntegerArray[] termCounts;
+    private final int slotMask;
+
+    /**
+     * @param slots 토큰 그룹마다 둘 해시 칸 수. 2의 거듭제곱이어야 한다.
+     */
+    FacetBucket(int domainBits, int workStyleBits, int groups, int slots) {
+        if (Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("slots 는 2의 거듭제곱이어야 합니다: " + slots);
+        }
+        this.domainBits = domainBits;
+        this.workStyleBits = workStyleBits;
+        this.termCounts = new AtomicIntegerArray[groups];
+        for (int group = 0; group < groups; group++) {
+            termCounts[group] = new AtomicIntegerArray(slots);
+        }
+        this.slotMask = slots - 1;
+    }
+
+    static int key(int domainBits, int workStyleBits) {
+        return domainBits << 16 | workStyleBits;
+    }
+
+    /**
+     * 후보를 넣는다. 같은 id 가 이미 있으면 바꾼다. 토큰 개수를 먼저 올려 조회에서 후보가 보이면 상한에도 반영돼 있게 한다.
+     */
+    void add(long id, V vector, int[]... terms) {
+        count(terms, 1);
+        members.put(id, vector);
+    }
+
+    /**
+     * add 때 넣은 vector 와 토큰을 뺀다. 그 사이 같은 id 로 새 후보가 들어왔으면 후보는 남기고 토큰 개수만 줄인다.
+     */
+    void remove(long id, V vector, int[]... terms) {
+        members.remove(id, vector);
+        count(terms, -1);
+    }
+
+    boolean mayContain(int group, int term) {
+        return termCounts[group].get(slot(term)) > 0;
+    }
+
+    boolean mayContainAny(int group, int[] terms) {
+        for (int term : terms) {
+            if (mayContain(group, term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Collection<V> members() {
+        return members.values();
+    }
+
+    private void count(int[][] terms, int delta) {
+        for (int group = 0; group < terms.length; group++) {
+            for (int term : terms[group]) {
+                termCounts[group].addAndGet(slot(term), delta);
+            }
+        }
+    }
+
+    private int slot(int term) {
+        int hash = term * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & slotMask;
+    }
+}
@@ -0,0 +1,70 @@
+package com.founder.match.matching.service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.WorkStyle;
+
+/**
+ * 프로필의 자유 입력(관심 분야, 가능 시간)을 프로젝트 enum facet 비트마스크로 변환한다.
+ */
+final class MatchFacets {
+
+    private static final Map<ProjectDomain, List<String>> DOMAIN_KEYWORDS = new EnumMap<>(ProjectDomain.class);
+    private static final Map<WorkStyle, List<String>> WORK_STYLE_KEYWORDS = new EnumMap<>(WorkStyle.class);
+
+    static {
+        DOMAIN_KEYWORDS.put(ProjectDomain.HEALTHCARE, List.of("헬스", "의료", "바이오", "health", "medical", "bio"));
+        DOMAIN_KEYWORDS.put(ProjectDomain.FINTECH, List.of("핀테크", "금융", "결제", "블록체인", "fintech", "finance", "blockchain"));
+        DOMAIN_KEYWORDS.put(ProjectDomain.EDUCATION, List.of("교육", "에듀", "학습", "edu", "learning"));
+        DOMAIN_KEYWORDS.put(ProjectDomain.ENTERTAINMENT, List.of("엔터", "게임", "미디어", "콘텐츠", "entertainment", "game", "media"));
+        DOMAIN_KEYWORDS.put(ProjectDomain.COMMERCE, List.of("커머스", "쇼핑", "유통", "commerce", "shopping", "retail"));
+
+        WORK_STYLE_KEYWORDS.put(WorkStyle.REMOTE, List.of("원격", "리모트", "재택", "온라인", "remote"));
+        WORK_STYLE_KEYWORDS.put(WorkStyle.ONSITE, List.of("오프라인", "상주", "출근", "대면", "onsite", "office"));
+        WORK_STYLE_KEYWORDS.put(WorkStyle.HYBRID, List.of("하이브리드", "병행", "hybrid"));
+    }
+
+    private MatchFacets() {
+    }
+
+    static int domainMask(Collection<String> interests) {
+        int mask = 0;
+        if (interests == null) {
+            return mask;
+        }
+        for (String interest : interests) {
+            mask |= mask(DOMAIN_KEYWORDS, interest);
+        }
+        return mask;
+    }
+
+    static int workStyleMask(String availability) {
+        return mask(WORK_STYLE_KEYWORDS, availability);
+    }
+
+    static int bit(Enum<?> value) {
+        return value == null ? 0 : 1 << value.ordinal();
+    }
+
+    private static <E extends Enum<E>> int mask(Map<E, List<String>> keywords, String text) {
+        if (text == null) {
+            return 0;
+        }
+        String folded = text.toLowerCase(Locale.ROOT);
+        int mask = 0;
+        for (Map.Entry<E, List<String>> entry : keywords.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                if (folded.contains(keyword)) {
+                    mask |= bit(entry.getKey());
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,15 @@
+package com.founder.match.matching.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 대상 id 와 적합도 점수.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchResult {
+
+    private final long targetId;
+    private final double score;
+}
@@ -0,0 +1,78 @@
+package com.founder.match.matching.service;
+
+/**
+ * 프로필-프로젝트 적합도 점수(0~1).
+ * 스킬/관심사 토큰이 프로젝트 본문에 등장하는 비율과 도메인/협업 방식 호환 여부를 가중합한다.
+ */
+final class MatchScorer {
+
+    static final double SKILL_WEIGHT = 0.45;
+    static final double INTEREST_WEIGHT = 0.20;
+    static final double DOMAIN_WEIGHT = 0.25;
+    static final double WORK_STYLE_WEIGHT = 0.10;
+
+    private MatchScorer() {
+    }
+
+    static double score(ProfileVector profile, ProjectVector project) {
+        return SKILL_WEIGHT * coverage(profile.skillTerms, project.terms)
+                + INTEREST_WEIGHT * coverage(profile.interestTerms, project.terms)
+                + facetScore(profile.domainMask, profile.workStyleMask, project.domainBit, project.workStyleBit);
+    }
+
+    /**
+     * 토큰 요약 비트로 구한 score 의 상한. 토큰 배열을 비교하지 않고 프로필 토큰 중 프로젝트 요약에 비트가 없는,
+     * 즉 확실히 빠진 토큰만 빼고 센다. 같은 비트를 쓰는 토큰이 여럿이어도 한 개로만 빼므로 상한은 유지된다.
+     */
+    static double upperBound(ProfileVector profile, ProjectVector project) {
+        return SKILL_WEIGHT * possibleCoverage(profile.skillTerms.length, profile.skillSignature, project.signature)
+                + INTEREST_WEIGHT * possibleCoverage(profile.interestTerms.length, profile.interestSignature,
+                        project.signature)
+                + facetScore(profile.domainMask, profile.workStyleMask, project.domainBit, project.workStyleBit);
+    }
+
+    /**
+     * 도메인/협업 방식 호환 점수. 토큰과 무관하므로 facet 이 같은 후보끼리는 같은 값이다.
+     */
+    static double facetScore(int domainMask, int workStyleMask, int domainBit, int workStyleBit) {
+        double score = (domainMask & domainBit) != 0 ? DOMAIN_WEIGHT : 0;
+        if (workStyleMask == 0) {
+            // 가능 시간에 협업 방식 단서가 없으면 중립으로 본다.
+            score += WORK_STYLE_WEIGHT / 2;
+        } else if ((workStyleMask & workStyleBit) != 0) {
+            score += WORK_STYLE_WEIGHT;
+        }
+        return score;
+    }
+
+    private static double possibleCoverage(int length, long query, long document) {
+        if (length == 0) {
+            return 0;
+        }
+        return (double) (length - Long.bitCount(query & ~document)) / length;
+    }
+
+    /**
+     * query 토큰 중 document 에 포함된 비율. 두 배열 모두 오름차순이어야 한다.
+     */
+    static double coverage(int[] query, int[] document) {
+        if (query.length == 0) {
+            return 0;
+        }
+        int matched = 0;
+        int i = 0;
+        int j = 0;
+        while (i < query.length && j < document.length) {
+            if (query[i] == document[j]) {
+                matched++;
+                i++;
+                j++;
+            } else if (query[i] < document[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) matched / query.length;
+    }
+}
@@ -0,0 +1,143 @@
+package com.founder.match.matching.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 매칭 벡터를 만들기 위한 토큰화 규칙.
+ * 문자/숫자(및 c++, c# 표기를 위한 '+', '#') 이외의 문자로 나누고 소문자로 정규화한다.
+ * 토큰 id는 사전에 등록하지 않고 토큰 문자열의 64비트 FNV-1a 해시를 32비트로 접어 만든다.
+ * 프로젝트 본문처럼 종류가 끝없이 늘어나는 자유 텍스트도 메모리를 쌓지 않고 잠금 없이 토큰화할 수 있으며,
+ * 드물게 두 토큰의 id 가 겹치면 그 토큰끼리 같은 단어로 취급될 뿐이다.
+ */
+final class MatchTokenizer {
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_CACHED_TAGS = 100_000;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** 태그 문자열 -> 토큰 id. 같은 태그를 쓰는 프로필끼리 토큰화 결과를 공유한다. */
+    private static final Cache<String, int[]> TAG_TOKENS = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TAGS)
+            .build();
+
+    private MatchTokenizer() {
+    }
+
+    /**
+     * 스킬/관심사 태그 목록의 토큰 id (정렬, 중복 제거).
+     */
+    static int[] tagTerms(List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return new int[0];
+        }
+        TermBuffer buffer = new TermBuffer();
+        for (String tag : tags) {
+            for (int term : TAG_TOKENS.get(tag, MatchTokenizer::tokenizeTag)) {
+                buffer.add(term);
+            }
+        }
+        return buffer.toSortedUnique();
+    }
+
+    /**
+     * 프로젝트 본문 텍스트의 토큰 id (정렬, 중복 제거).
+     * 한글 토큰은 조사가 붙어 있을 수 있어("마케팅을") 두 글자 이상의 접두어도 함께 넣는다.
+     */
+    static int[] documentTerms(String... texts) {
+        TermBuffer buffer = new TermBuffer();
+        for (String text : texts) {
+            tokenize(text, buffer, true);
+        }
+        return buffer.toSortedUnique();
+    }
+
+    /**
+     * 토큰 id 집합의 64비트 요약. 토큰마다 비트 하나를 켜므로 요약에 비트가 꺼져 있는 토큰은 집합에 없다.
+     */
+    static long signature(int[] terms) {
+        long signature = 0;
+        for (int term : terms) {
+            signature |= 1L << ((term * 0x9E3779B9) >>> 26);
+        }
+        return signature;
+    }
+
+    private static int[] tokenizeTag(String tag) {
+        TermBuffer buffer = new TermBuffer();
+        tokenize(tag, buffer, false);
+        return buffer.toSortedUnique();
+    }
+
+    private static void tokenize(String text, TermBuffer buffer, boolean withPrefixes) {
+        if (text == null) {
+            return;
+        }
+        String folded = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean tokenChar = i < folded.length() && isTokenChar(folded.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                buffer.add(termId(folded, start, i));
+                if (withPrefixes && isHangul(folded.charAt(start))) {
+                    for (int end = start + MIN_PREFIX_LENGTH; end < i; end++) {
+                        buffer.add(termId(folded, start, end));
+                    }
+                }
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * text[start, end) 의 토큰 id. 부분 문자열을 만들지 않고 바로 해시한다.
+     */
+    private static int termId(CharSequence text, int start, int end) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static final class TermBuffer {
+
+        private int[] terms = new int[16];
+        private int size;
+
+        void add(int term) {
+            if (size == terms.length) {
+                terms = Arrays.copyOf(terms, size * 2);
+            }
+            terms[size++] = term;
+        }
+
+        int[] toSortedUnique() {
+            Arrays.sort(terms, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || terms[unique - 1] != terms[i]) {
+                    terms[unique++] = terms[i];
+                }
+            }
+            return Arrays.copyOf(terms, unique);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.founder.match.matching.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.founder.match.common.metrics.ScanCounter;
+import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.event.FounderProfileChangedEvent;
+import com.founder.match.profile.event.FounderProfilesImportedEvent;
+import com.founder.match.profile.repository.FounderProfileRepository;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.event.ProjectChangedEvent;
+import com.founder.match.project.event.ProjectsImportedEvent;
+import com.founder.match.project.repository.ProjectRepository;
+
+/**
+ * 프로필/프로젝트를 미리 벡터로 변환해 보관하고 상위 k 건 추천을 계산한다.
+ * 서비스에서 발행하는 변경 이벤트로 벡터를 갱신하므로 조회 시에는 변환 비용이 없다.
+ * 상위 결과는 RecommendationCache 에 보관하고 변경 시 점진적으로 갱신한다.
+ *
+ * 캐시 미적중 시에는 후보를 facet 묶음(FacetBucket) 단위로 훑는다. 묶음마다 facet 점수와 토큰 점수의 상한을
+ * 구해 상한이 높은 묶음부터 보고, 상한이 이미 고른 k 번째 점수보다 낮은 묶음은 건너뛴다.
+ * 건너뛴 묶음의 후보는 상위 k 건에 들 수 없으므로 전체를 훑을 때와 결과가 같다.
+ */
+@Component
+public class MatchingIndex {
+
+    /** FacetBucket 토큰 그룹. 프로젝트는 본문 토큰 하나, 프로필은 스킬과 관심사 두 그룹이다. */
+    private static final int PROJECT_TERMS = 0;
+    private static final int PROFILE_SKILLS = 0;
+    private static final int PROFILE_INTERESTS = 1;
+    /** 프로젝트 묶음은 facet 조합 수(최대 24개)만큼만 생기므로 본문 토큰용으로 칸을 넉넉히 둔다. */
+    private static final int PROJECT_TERM_SLOTS = 1 << 14;
+    /** 프로필 묶음은 관심 도메인 조합마다 생겨 수가 더 많다. */
+    private static final int PROFILE_TERM_SLOTS = 1 << 12;
+
+    private final ConcurrentMap<Long, ProfileVector> profiles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, ProjectVector> projects = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, FacetBucket<ProfileVector>> profileBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, FacetBucket<ProjectVector>> projectBuckets = new ConcurrentHashMap<>();
+    /** 벡터 교체와 묶음 이동을 한 단위로 하기 위한 쓰기 잠금. 조회는 잠그지 않는다. */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final RecommendationCache cache;
+
+    public MatchingIndex(RecommendationCache cache,
+                         ProjectRepository projectRepository,
+                         FounderProfileRepository profileRepository) {
+        this.cache = cache;
+        // 저장소가 WAL 로 복원된 경우를 위해 기동 시점의 데이터로 벡터를 채운다. 토큰화는 여러 스레드로 나눈다.
+        List<Project> existingProjects = new ArrayList<>();
+        projectRepository.forEach(existingProjects::add);
+        putProjects(existingProjects.parallelStream().map(ProjectVector::of).collect(Collectors.toList()));
+        List<FounderProfile> existingProfiles = new ArrayList<>();
+        profileRepository.forEach(existingProfiles::add);
+        putProfiles(existingProfiles.parallelStream().map(ProfileVector::of).collect(Collectors.toList()));
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.isDeleted()) {
+            removeProject(event.getProjectId());
+            cache.onProjectDeleted(event.getProjectId());
+        } else {
+            ProjectVector project = ProjectVector.of(event.getProject());
+            putProjects(List.of(project));
+            cache.onProjectSaved(project);
+        }
+    }
+
+    @EventListener
+    public void onProjectsImported(ProjectsImportedEvent event) {
+        List<ProjectVector> imported = event.getProjects().stream()
+                .map(ProjectVector::of)
+                .collect(Collectors.toList());
+        putProjects(imported);
+        cache.onProjectsImported(imported);
+    }
+
+    @EventListener
+    public void onProfileChanged(FounderProfileChangedEvent event) {
+        if (event.isDeleted()) {
+            removeProfile(event.getUserId());
+            cache.onProfileDeleted(event.getUserId());
+        } else {
+            ProfileVector profile = ProfileVector.of(event.getProfile());
+            putProfiles(List.of(profile));
+            cache.onProfileSaved(profile);
+        }
+    }
+
+    @EventListener
+    public void onProfilesImported(FounderProfilesImportedEvent event) {
+        List<ProfileVector> imported = event.getProfiles().stream()
+                .map(ProfileVector::of)
+                .collect(Collectors.toList());
+        putProfiles(imported);
+        cache.onProfilesImported(imported);
+    }
+
+    /**
+     * 프로젝트에 어울리는 창업자(userId) 상위 k 건. 프로젝트 소유자 본인은 제외한다.
+     */
+    public List<MatchResult> topFounders(Long projectId, int k) {
+        ProjectVector project = projects.get(projectId);
+        if (project == null) {
+            throw new IllegalArgumentException("프로젝트를 찾을 수 없습니다.");
+        }
+        return cache.founders(project, k, n -> rankFounders(project, n));
+    }
+
+    private List<MatchResult> rankFounders(ProjectVector project, int k) {
+        return rank(profileBuckets.values(), k,
+                bucket -> (bucket.mayContainAny(PROFILE_SKILLS, project.terms) ? MatchScorer.SKILL_WEIGHT : 0)
+                        + (bucket.mayContainAny(PROFILE_INTERESTS, project.terms) ? MatchScorer.INTEREST_WEIGHT : 0)
+                        + MatchScorer.facetScore(bucket.domainBits, bucket.workStyleBits,
+                                project.domainBit, project.workStyleBit),
+                profile -> profile.userId,
+                profile -> MatchScorer.upperBound(profile, project),
+                profile -> profile.userId == project.ownerId ? 0 : MatchScorer.score(profile, project));
+    }
+
+    /**
+     * 사용자 프로필에 어울리는 프로젝트(projectId) 상위 k 건. 본인 소유 프로젝트는 제외한다.
+     */
+    public List<MatchResult> topProjects(Long userId, int k) {
+        ProfileVector profile = profiles.get(userId);
+        if (profile == null) {
+            throw new IllegalArgumentException("프로필을 찾을 수 없습니다.");
+        }
+        return cache.projects(profile, k, n -> rankProjects(profile, n));
+    }
+
+    private List<MatchResult> rankProjects(ProfileVector profile, int k) {
+        return rank(projectBuckets.values(), k,
+                bucket -> MatchScorer.SKILL_WEIGHT * presence(bucket, profile.skillTerms)
+                        + MatchScorer.INTEREST_WEIGHT * presence(bucket, profile.interestTerms)
+                        + MatchScorer.facetScore(profile.domainMask, profile.workStyleMask,
+                                bucket.domainBits, bucket.workStyleBits),
+                project -> project.projectId,
+                project -> MatchScorer.upperBound(profile, project),
+                project -> project.ownerId == profile.userId ? 0 : MatchScorer.score(profile, project));
+    }
+
+    /**
+     * 묶음 상한이 높은 순으로 후보를 점수 매긴다. 점수가 0 이하인 후보(본인 포함)는 제외한다.
+     * 묶음 안에서도 후보별 상한(upperBound)이 k 번째 점수보다 낮으면 토큰 배열을 비교하지 않고 넘긴다.
+     * 상한은 묶음 안 어느 후보의 점수보다도 작지 않아야 한다. 점수가 같으면 id 순으로 결과가 갈리므로
+     * 상한이 k 번째 점수와 같은 묶음은 건너뛰지 않는다.
+     */
+    private static <V> List<MatchResult> rank(Collection<FacetBucket<V>> buckets,
+                                              int k,
+                                              ToDoubleFunction<FacetBucket<V>> bound,
+                                              ToLongFunction<V> targetId,
+                                              ToDoubleFunction<V> upperBound,
+                                              ToDoubleFunction<V> score) {
+        List<BoundedBucket<V>> ordered = new ArrayList<>(buckets.size());
+        for (FacetBucket<V> bucket : buckets) {
+            ordered.add(new BoundedBucket<>(bucket, bound.applyAsDouble(bucket)));
+        }
+        ordered.sort(Comparator.comparingDouble((BoundedBucket<V> candidate) -> candidate.bound).reversed());
+
+        TopK topK = new TopK(k);
+        long scanned = 0;
+        for (BoundedBucket<V> candidate : ordered) {
+            if (candidate.bound <= 0 || candidate.bound < topK.threshold()) {
+                break;
+            }
+            for (V vector : candidate.bucket.members()) {
+                scanned++;
+                if (upperBound.applyAsDouble(vector) < topK.threshold()) {
+                    continue;
+                }
+                double value = score.applyAsDouble(vector);
+                if (value > 0) {
+                    topK.offer(targetId.applyAsLong(vector), value);
+                }
+            }
+        }
+        ScanCounter.add(scanned);
+        return topK.toSortedList();
+    }
+
+    /**
+     * query 토큰 중 묶음 안에 있을 수 있는 토큰의 비율. 묶음 안 어느 후보의 coverage 보다도 작지 않다.
+     */
+    private static double presence(FacetBucket<ProjectVector> bucket, int[] query) {
+        if (query.length == 0) {
+            return 0;
+        }
+        int present = 0;
+        for (int term : query) {
+            if (bucket.mayContain(PROJECT_TERMS, term)) {
+                present++;
+            }
+        }
+        return (double) present / query.length;
+    }
+
+    private void putProjects(List<ProjectVector> vectors) {
+        writeLock.lock();
+        try {
+            for (ProjectVector project : vectors) {
+                // 새 묶음에 먼저 넣고 이전 묶음에서 빼서, 조회 중에 후보가 잠깐이라도 사라지지 않게 한다.
+                ProjectVector previous = projects.put(project.projectId, project);
+                projectBucket(project).add(project.projectId, project, project.terms);
+                if (previous != null) {
+                    projectBucket(previous).remove(previous.projectId, previous, previous.terms);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeProject(Long projectId) {
+        writeLock.lock();
+        try {
+            ProjectVector previous = projects.remove(projectId);
+            if (previous != null) {
+                projectBucket(previous).remove(previous.projectId, previous, previous.terms);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void putProfiles(List<ProfileVector> vectors) {
+        writeLock.lock();
+        try {
+            for (ProfileVector profile : vectors) {
+                ProfileVector previous = profiles.put(profile.userId, profile);
+                profileBucket(profile).add(profile.userId, profile, profile.skillTerms, profile.interestTerms);
+                if (previous != null) {
+                    profileBucket(previous).remove(previous.userId, previous, previous.skillTerms, previous.interestTerms);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeProfile(Long userId) {
+        writeLock.lock();
+        try {
+            ProfileVector previous = profiles.remove(userId);
+            if (previous != null) {
+                profileBucket(previous).remove(previous.userId, previous, previous.skillTerms, previous.interestTerms);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private FacetBucket<ProjectVector> projectBucket(ProjectVector project) {
+        return projectBuckets.computeIfAbsent(FacetBucket.key(project.domainBit, project.workStyleBit),
+                key -> new FacetBucket<>(project.domainBit, project.workStyleBit, 1, PROJECT_TERM_SLOTS));
+    }
+
+    private FacetBucket<ProfileVector> profileBucket(ProfileVector profile) {
+        return profileBuckets.computeIfAbsent(FacetBucket.key(profile.domainMask, profile.workStyleMask),
+                key -> new FacetBucket<>(profile.domainMask, profile.workStyleMask, 2, PROFILE_TERM_SLOTS));
+    }
+
+    private static final class BoundedBucket<V> {
+
+        final FacetBucket<V> bucket;
+        final double bound;
+
+        BoundedBucket(FacetBucket<V> bucket, double bound) {
+            this.bucket = bucket;
+            this.bound = bound;
+        }
+    }
+}
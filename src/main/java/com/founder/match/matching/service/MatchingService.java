@@ -0,0 +1,68 @@
+package com.founder.match.matching.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.founder.match.matching.domain.Recommendation;
+import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.repository.FounderProfileRepository;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.repository.ProjectRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 창업자-프로젝트 매칭 추천 서비스.
+ */
+@Service
+@Slf4j
+public class MatchingService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final MatchingIndex matchingIndex;
+    private final FounderProfileRepository profileRepository;
+    private final ProjectRepository projectRepository;
+
+    public MatchingService(MatchingIndex matchingIndex,
+                           FounderProfileRepository profileRepository,
+                           ProjectRepository projectRepository) {
+        this.matchingIndex = matchingIndex;
+        this.profileRepository = profileRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    public List<Recommendation<FounderProfile>> recommendFounders(Long projectId, int limit) {
+        log.debug("추천 창업자 조회 요청: projectId={}, limit={}", projectId, limit);
+        checkLimit(limit);
+
+        List<MatchResult> results = matchingIndex.topFounders(projectId, limit);
+        List<Recommendation<FounderProfile>> recommendations = new ArrayList<>(results.size());
+        for (MatchResult result : results) {
+            profileRepository.findByUserId(result.getTargetId())
+                    .ifPresent(profile -> recommendations.add(new Recommendation<>(profile, result.getScore())));
+        }
+        return recommendations;
+    }
+
+    public List<Recommendation<Project>> recommendProjects(Long userId, int limit) {
+        log.debug("추천 프로젝트 조회 요청: userId={}, limit={}", userId, limit);
+        checkLimit(limit);
+
+        List<MatchResult> results = matchingIndex.topProjects(userId, limit);
+        List<Recommendation<Project>> recommendations = new ArrayList<>(results.size());
+        for (MatchResult result : results) {
+            projectRepository.findById(result.getTargetId())
+                    .ifPresent(project -> recommendations.add(new Recommendation<>(project, result.getScore())));
+        }
+        return recommendations;
+    }
+
+    private void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+    }
+}
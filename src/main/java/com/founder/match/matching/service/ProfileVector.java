@@ -0,0 +1,41 @@
+package com.founder.match.matching.service;
+
+import java.util.List;
+
+import com.founder.match.profile.domain.FounderProfile;
+
+/**
+ * 점수 계산용으로 미리 변환해 둔 FounderProfile 표현.
+ */
+final class ProfileVector {
+
+    final long userId;
+    final int[] skillTerms;
+    final int[] interestTerms;
+    /** skillTerms/interestTerms 의 MatchTokenizer.signature. */
+    final long skillSignature;
+    final long interestSignature;
+    final int domainMask;
+    final int workStyleMask;
+
+    private ProfileVector(long userId, int[] skillTerms, int[] interestTerms, int domainMask, int workStyleMask) {
+        this.userId = userId;
+        this.skillTerms = skillTerms;
+        this.interestTerms = interestTerms;
+        this.skillSignature = MatchTokenizer.signature(skillTerms);
+        this.interestSignature = MatchTokenizer.signature(interestTerms);
+        this.domainMask = domainMask;
+        this.workStyleMask = workStyleMask;
+    }
+
+    static ProfileVector of(FounderProfile profile) {
+        List<String> interests = profile.getInterests();
+        return new ProfileVector(
+                profile.getUserId(),
+                MatchTokenizer.tagTerms(profile.getSkills()),
+                MatchTokenizer.tagTerms(interests),
+                MatchFacets.domainMask(interests),
+                MatchFacets.workStyleMask(profile.getAvailability())
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.founder.match.matching.service;
+
+import com.founder.match.project.domain.Project;
+
+/**
+ * 점수 계산용으로 미리 변환해 둔 Project 표현.
+ */
+final class ProjectVector {
+
+    /** 소유자가 없는 프로젝트의 ownerId. 사용자 id 는 1 부터이므로 본인 제외 비교에서 아무와도 같지 않다. */
+    static final long NO_OWNER = -1L;
+
+    final long projectId;
+    final long ownerId;
+    final int[] terms;
+    /** terms 의 MatchTokenizer.signature. */
+    final long signature;
+    final int domainBit;
+    final int workStyleBit;
+
+    private ProjectVector(long projectId, long ownerId, int[] terms, int domainBit, int workStyleBit) {
+        this.projectId = projectId;
+        this.ownerId = ownerId;
+        this.terms = terms;
+        this.signature = MatchTokenizer.signature(terms);
+        this.domainBit = domainBit;
+        this.workStyleBit = workStyleBit;
+    }
+
+    static ProjectVector of(Project project) {
+        return new ProjectVector(
+                project.getId(),
+                project.getOwnerId() == null ? NO_OWNER : project.getOwnerId(),
+                MatchTokenizer.documentTerms(project.getName(), project.getOneLineIntro(), project.getDescription()),
+                MatchFacets.bit(project.getDomain()),
+                MatchFacets.bit(project.getWorkStyle())
+        );
+    }
+}
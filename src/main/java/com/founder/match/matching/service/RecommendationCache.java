@@ -0,0 +1,373 @@
+package com.founder.match.matching.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.founder.match.matching.dto.RecommendationCacheStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로젝트별 추천 창업자 / 사용자별 추천 프로젝트 상위 N 건 캐시.
+ * 프로필/프로젝트가 바뀌면 쓰기 쪽에서는 후보 변경 피드에 한 건을 덧붙이기만 하고(O(1)),
+ * 캐시된 목록은 조회될 때 자기가 마지막으로 반영한 위치 이후의 변경만 골라 점수를 다시 계산해 따라잡는다.
+ * 상위 N 밖의 후보가 필요해지거나, 피드가 한 바퀴 돌아 놓친 변경이 있거나, 일괄 등록으로 피드가 초기화됐으면
+ * 그 항목만 버리고 다시 계산한다. 목록의 기준 벡터 자체가 바뀐 경우는 조회 시 넘어온 벡터와 비교해 알아챈다.
+ * 전체 크기는 추정 메모리 사용량으로 제한하며, 넘치면 Caffeine(W-TinyLFU) 정책으로 내보낸다.
+ */
+@Component
+public class RecommendationCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private static final long RESULT_BYTES = 40;
+    private static final int FEED_CAPACITY = 4096;
+
+    private final int topN;
+    private final long maxBytes;
+
+    private final Cache<RankingKey, Ranking> rankings;
+    /** 프로젝트 변경. 사용자별 추천 프로젝트 목록이 따라잡는다. */
+    private final CandidateFeed projectFeed = new CandidateFeed(FEED_CAPACITY);
+    /** 프로필 변경. 프로젝트별 추천 창업자 목록이 따라잡는다. */
+    private final CandidateFeed profileFeed = new CandidateFeed(FEED_CAPACITY);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder incrementalUpdates = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public RecommendationCache(@Value("${matching.cache.top-n:50}") int topN,
+                               @Value("${matching.cache.max-bytes:67108864}") long maxBytes) {
+        this.topN = topN;
+        this.maxBytes = maxBytes;
+        this.rankings = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((RankingKey key, Ranking ranking) -> (int) entryBytes(topN))
+                .removalListener((RankingKey key, Ranking ranking, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    List<MatchResult> founders(ProjectVector project, int limit, IntFunction<List<MatchResult>> loader) {
+        return get(new RankingKey(Kind.FOUNDERS_OF_PROJECT, project.projectId), project, limit, loader);
+    }
+
+    List<MatchResult> projects(ProfileVector profile, int limit, IntFunction<List<MatchResult>> loader) {
+        return get(new RankingKey(Kind.PROJECTS_OF_USER, profile.userId), profile, limit, loader);
+    }
+
+    void onProjectSaved(ProjectVector project) {
+        invalidate(new RankingKey(Kind.FOUNDERS_OF_PROJECT, project.projectId));
+        projectFeed.append(project.projectId, project);
+    }
+
+    void onProjectDeleted(Long projectId) {
+        invalidate(new RankingKey(Kind.FOUNDERS_OF_PROJECT, projectId));
+        projectFeed.append(projectId, null);
+    }
+
+    /**
+     * 일괄 등록된 프로젝트들. 후보마다 피드에 넣는 대신 피드를 초기화해, 사용자별 추천 목록은 다음 조회 때 다시 계산한다.
+     */
+    void onProjectsImported(List<ProjectVector> projects) {
+        for (ProjectVector project : projects) {
+            invalidate(new RankingKey(Kind.FOUNDERS_OF_PROJECT, project.projectId));
+        }
+        projectFeed.reset();
+    }
+
+    void onProfileSaved(ProfileVector profile) {
+        invalidate(new RankingKey(Kind.PROJECTS_OF_USER, profile.userId));
+        profileFeed.append(profile.userId, profile);
+    }
+
+    void onProfileDeleted(Long userId) {
+        invalidate(new RankingKey(Kind.PROJECTS_OF_USER, userId));
+        profileFeed.append(userId, null);
+    }
+
+    /**
+     * 일괄 등록된 프로필들. 후보마다 피드에 넣는 대신 피드를 초기화해, 프로젝트별 추천 목록은 다음 조회 때 다시 계산한다.
+     */
+    void onProfilesImported(List<ProfileVector> profiles) {
+        for (ProfileVector profile : profiles) {
+            invalidate(new RankingKey(Kind.PROJECTS_OF_USER, profile.userId));
+        }
+        profileFeed.reset();
+    }
+
+    public RecommendationCacheStats stats() {
+        long entries = rankings.estimatedSize();
+        return RecommendationCacheStats.builder()
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .bypasses(bypasses.sum())
+                .rebuilds(rebuilds.sum())
+                .incrementalUpdates(incrementalUpdates.sum())
+                .invalidations(invalidations.sum())
+                .evictions(evictions.sum())
+                .entries((int) entries)
+                .estimatedBytes(entries * entryBytes(topN))
+                .maxBytes(maxBytes)
+                .build();
+    }
+
+    private List<MatchResult> get(RankingKey key, Object subject, int limit, IntFunction<List<MatchResult>> loader) {
+        if (limit > topN) {
+            bypasses.increment();
+            return loader.apply(limit);
+        }
+
+        CandidateFeed feed = feedOf(key.kind);
+        Ranking cached = rankings.getIfPresent(key);
+        if (cached != null) {
+            List<MatchResult> current = cached.subject == subject ? catchUp(key.kind, cached, feed, limit) : null;
+            if (current != null) {
+                hits.increment();
+                return current;
+            }
+            if (rankings.asMap().remove(key, cached)) {
+                invalidations.increment();
+            }
+        }
+
+        misses.increment();
+        // 계산 도중의 변경은 이 위치부터 다시 반영된다. 같은 후보를 두 번 반영해도 결과는 같다.
+        long appliedThrough = feed.head();
+        List<MatchResult> computed = loader.apply(topN);
+        rebuilds.increment();
+        rankings.put(key, new Ranking(subject, new ArrayList<>(computed), appliedThrough));
+        return copyOf(computed, limit);
+    }
+
+    /**
+     * 목록이 마지막으로 반영한 위치 이후의 후보 변경을 반영하고 앞의 limit 건을 돌려준다.
+     * 다시 계산해야 하면 null.
+     */
+    private List<MatchResult> catchUp(Kind kind, Ranking ranking, CandidateFeed feed, int limit) {
+        ranking.lock.lock();
+        try {
+            if (ranking.stale) {
+                return null;
+            }
+            List<CandidateChange> pending = feed.since(ranking.appliedThrough);
+            if (pending == null) {
+                ranking.stale = true;
+                return null;
+            }
+            for (CandidateChange change : pending) {
+                incrementalUpdates.increment();
+                if (!apply(ranking.results, change.candidateId, score(kind, ranking.subject, change.vector))) {
+                    ranking.stale = true;
+                    return null;
+                }
+                ranking.appliedThrough = change.sequence + 1;
+            }
+            return copyOf(ranking.results, limit);
+        } finally {
+            ranking.lock.unlock();
+        }
+    }
+
+    /**
+     * 기준 벡터에 대한 후보의 점수. 삭제됐거나 소유자 본인이면 0 (제외).
+     */
+    private static double score(Kind kind, Object subject, Object candidate) {
+        if (candidate == null) {
+            return 0;
+        }
+        if (kind == Kind.PROJECTS_OF_USER) {
+            ProfileVector profile = (ProfileVector) subject;
+            ProjectVector project = (ProjectVector) candidate;
+            return project.ownerId == profile.userId ? 0 : MatchScorer.score(profile, project);
+        }
+        ProjectVector project = (ProjectVector) subject;
+        ProfileVector profile = (ProfileVector) candidate;
+        return project.ownerId == profile.userId ? 0 : MatchScorer.score(profile, project);
+    }
+
+    /**
+     * 후보 한 건의 새 점수(0 이하면 제외)를 정렬된 상위 N 목록에 반영한다.
+     * 목록이 가득 찬 상태에서 기존 항목이 밀려나면 N+1 번째 후보를 알 수 없으므로 false 를 돌려준다.
+     */
+    private boolean apply(List<MatchResult> results, long candidateId, double score) {
+        boolean full = results.size() >= topN;
+        MatchResult last = results.isEmpty() ? null : results.get(results.size() - 1);
+        MatchResult candidate = score > 0 ? new MatchResult(candidateId, score) : null;
+
+        int existing = indexOf(results, candidateId);
+        if (existing >= 0) {
+            results.remove(existing);
+            if (full && (candidate == null || TopK.RANKING.compare(candidate, last) > 0)) {
+                return false;
+            }
+        }
+        if (candidate == null) {
+            return true;
+        }
+
+        int position = Collections.binarySearch(results, candidate, TopK.RANKING);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        if (position >= topN) {
+            return true;
+        }
+        results.add(position, candidate);
+        if (results.size() > topN) {
+            results.remove(results.size() - 1);
+        }
+        return true;
+    }
+
+    private void invalidate(RankingKey key) {
+        if (rankings.asMap().remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    private CandidateFeed feedOf(Kind kind) {
+        return kind == Kind.PROJECTS_OF_USER ? projectFeed : profileFeed;
+    }
+
+    private static long entryBytes(int topN) {
+        // 목록은 최대 topN 까지 늘어날 수 있으므로 상한으로 잡는다.
+        return ENTRY_OVERHEAD_BYTES + RESULT_BYTES * topN;
+    }
+
+    private static int indexOf(List<MatchResult> results, long candidateId) {
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).getTargetId() == candidateId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<MatchResult> copyOf(List<MatchResult> results, int limit) {
+        return new ArrayList<>(results.subList(0, Math.min(limit, results.size())));
+    }
+
+    private enum Kind {
+        FOUNDERS_OF_PROJECT,
+        PROJECTS_OF_USER
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class RankingKey {
+        private final Kind kind;
+        private final long id;
+    }
+
+    private static final class Ranking {
+        /** 순위를 매긴 기준 벡터(ProjectVector 또는 ProfileVector). */
+        private final Object subject;
+        private final List<MatchResult> results;
+        private final ReentrantLock lock = new ReentrantLock();
+        /** 다음에 반영할 피드 위치. */
+        private long appliedThrough;
+        private boolean stale;
+
+        private Ranking(Object subject, List<MatchResult> results, long appliedThrough) {
+            this.subject = subject;
+            this.results = results;
+            this.appliedThrough = appliedThrough;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class CandidateChange {
+        private final long sequence;
+        private final long candidateId;
+        /** 바뀐 후보의 벡터. 삭제면 null. */
+        private final Object vector;
+    }
+
+    /**
+     * 한 종류 후보(프로젝트 또는 프로필)의 최근 변경을 담는 고정 크기 링.
+     * 덧붙이기와 읽기 모두 짧게 잠그며, 읽는 쪽은 필요한 구간만 복사해 간다.
+     */
+    private static final class CandidateFeed {
+
+        private final CandidateChange[] changes;
+        private final int mask;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long head;
+        /** 이 위치 이전을 기준으로 계산한 목록은 따라잡을 수 없다. */
+        private long floor;
+
+        private CandidateFeed(int capacity) {
+            this.changes = new CandidateChange[capacity];
+            this.mask = capacity - 1;
+        }
+
+        void append(long candidateId, Object vector) {
+            lock.lock();
+            try {
+                changes[(int) (head & mask)] = new CandidateChange(head, candidateId, vector);
+                head++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 한 칸을 건너뛰어, 지금의 head 를 기준으로 계산한 목록도 floor 앞에 오게 한다.
+         */
+        void reset() {
+            lock.lock();
+            try {
+                head++;
+                floor = head;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long head() {
+            lock.lock();
+            try {
+                return head;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * from 부터 지금까지의 변경. 그 사이 초기화됐거나 링이 한 바퀴 넘게 돌았으면 null.
+         */
+        List<CandidateChange> since(long from) {
+            lock.lock();
+            try {
+                if (from < floor || head - from > changes.length) {
+                    return null;
+                }
+                List<CandidateChange> pending = new ArrayList<>((int) (head - from));
+                for (long sequence = from; sequence < head; sequence++) {
+                    pending.add(changes[(int) (sequence & mask)]);
+                }
+                return pending;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
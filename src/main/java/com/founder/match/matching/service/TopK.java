@@ -0,0 +1,51 @@
+package com.founder.match.matching.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 점수 상위 k 건만 유지하는 최소 힙.
+ * 후보 전체를 정렬하지 않고 O(n log k)로 상위 결과를 고른다.
+ */
+final class TopK {
+
+    /** 점수가 같으면 id 가 작은 쪽을 우선한다. */
+    static final Comparator<MatchResult> RANKING = Comparator.comparingDouble(MatchResult::getScore).reversed()
+            .thenComparingLong(MatchResult::getTargetId);
+
+    private final int k;
+    private final PriorityQueue<MatchResult> heap;
+
+    TopK(int k) {
+        this.k = k;
+        this.heap = new PriorityQueue<>(k + 1, RANKING.reversed());
+    }
+
+    void offer(long targetId, double score) {
+        if (heap.size() == k) {
+            MatchResult weakest = heap.peek();
+            if (score < weakest.getScore() || (score == weakest.getScore() && targetId > weakest.getTargetId())) {
+                return;
+            }
+        }
+        heap.offer(new MatchResult(targetId, score));
+        if (heap.size() > k) {
+            heap.poll();
+        }
+    }
+
+    /**
+     * 지금 k 번째 점수. 아직 k 건이 차지 않았으면 음의 무한대.
+     */
+    double threshold() {
+        return heap.size() < k ? Double.NEGATIVE_INFINITY : heap.peek().getScore();
+    }
+
+    List<MatchResult> toSortedList() {
+        List<MatchResult> results = new ArrayList<>(heap);
+        results.sort(RANKING);
+        return results;
+    }
+}
@@ -0,0 +1,46 @@
+package com.founder.match.persistence;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 키별 잠금 안에서 한 WAL 쓰기의 fsync 대기를 잠금 밖으로 미룬다.
+ * run 안의 WriteAheadLog.write 는 fsync 를 기다리지 않고 기록 위치만 남기며, run 의 작업이 끝나 그 안에서 잡은 잠금이
+ * 모두 풀린 뒤 그 위치까지 fsync 될 때까지 기다린다. 호출자는 run 이 반환한 뒤에 응답하므로 SYNC 모드의 보장은 그대로이고,
+ * 같은 stripe 를 쓰는 다른 키의 쓰기가 fsync 시간만큼 줄 서는 일만 없어진다.
+ */
+public final class DurabilityScope {
+
+    private static final ThreadLocal<Map<WriteAheadLog<?>, Long>> PENDING = new ThreadLocal<>();
+
+    private DurabilityScope() {
+    }
+
+    public static <R> R run(Supplier<R> action) {
+        if (PENDING.get() != null) {
+            return action.get();
+        }
+        Map<WriteAheadLog<?>, Long> pending = new IdentityHashMap<>();
+        PENDING.set(pending);
+        try {
+            return action.get();
+        } finally {
+            // 작업이 중간에 실패해도 그 전까지 메모리에 반영된 레코드는 fsync 를 기다린다.
+            PENDING.remove();
+            pending.forEach(WriteAheadLog::awaitDurable);
+        }
+    }
+
+    /**
+     * 열린 범위가 있으면 position 까지의 대기를 맡기고 true 를 돌려준다.
+     */
+    static boolean defer(WriteAheadLog<?> log, long position) {
+        Map<WriteAheadLog<?>, Long> pending = PENDING.get();
+        if (pending == null) {
+            return false;
+        }
+        pending.merge(log, position, Math::max);
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package com.founder.match.persistence;
+
+/**
+ * 저장소 엔티티의 binary 직렬화 규칙.
+ */
+public interface RecordCodec<T> {
+
+    void write(T entity, RecordWriter writer);
+
+    T read(RecordReader reader);
+}
@@ -0,0 +1,73 @@
+package com.founder.match.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RecordWriter 로 기록한 값을 ByteBuffer 에서 순서대로 읽는다.
+ * heap buffer 와 memory-mapped buffer 모두 사용할 수 있다.
+ */
+public class RecordReader {
+
+    private final ByteBuffer buffer;
+
+    public RecordReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public byte readByte() {
+        return buffer.get();
+    }
+
+    public int readInt() {
+        return buffer.getInt();
+    }
+
+    public long readLong() {
+        return buffer.getLong();
+    }
+
+    public Long readNullableLong() {
+        return buffer.get() == 0 ? null : buffer.getLong();
+    }
+
+    public String readString() {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public List<String> readStrings() {
+        int count = buffer.getInt();
+        if (count < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    public <E extends Enum<E>> E readEnum(E[] values) {
+        byte ordinal = buffer.get();
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    public LocalDateTime readDateTime() {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
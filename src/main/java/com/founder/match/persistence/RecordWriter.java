@@ -0,0 +1,124 @@
+package com.founder.match.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 저장소 레코드를 compact binary 로 직렬화하기 위한 가변 길이 버퍼.
+ * null 은 길이/플래그 값으로 표현한다.
+ */
+public class RecordWriter {
+
+    private byte[] buffer;
+    private int size;
+
+    public RecordWriter() {
+        this(256);
+    }
+
+    public RecordWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeInt(int value) {
+        ensureCapacity(4);
+        buffer[size++] = (byte) (value >>> 24);
+        buffer[size++] = (byte) (value >>> 16);
+        buffer[size++] = (byte) (value >>> 8);
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    public void writeNullableLong(Long value) {
+        writeByte(value == null ? 0 : 1);
+        if (value != null) {
+            writeLong(value);
+        }
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeStrings(List<String> values) {
+        if (values == null) {
+            writeInt(-1);
+            return;
+        }
+        writeInt(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    public void writeEnum(Enum<?> value) {
+        writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    public void writeDateTime(LocalDateTime value) {
+        writeByte(value == null ? 0 : 1);
+        if (value != null) {
+            writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeInt(value.getNano());
+        }
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * 지정 위치의 int 값을 덮어쓴다. 길이 필드를 나중에 채울 때 사용한다.
+     */
+    public void setInt(int position, int value) {
+        buffer[position] = (byte) (value >>> 24);
+        buffer[position + 1] = (byte) (value >>> 16);
+        buffer[position + 2] = (byte) (value >>> 8);
+        buffer[position + 3] = (byte) value;
+    }
+
+    public byte[] array() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * 지정 길이 이후에 기록한 내용을 버린다.
+     */
+    public void truncate(int newSize) {
+        size = newSize;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
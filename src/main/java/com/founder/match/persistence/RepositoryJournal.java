@@ -0,0 +1,66 @@
+package com.founder.match.persistence;
+
+import java.util.function.Supplier;
+
+/**
+ * 인메모리 저장소의 변경 기록.
+ * 영속화 모드에서는 write-ahead log 에 기록하고 주기적으로 스냅샷을 만들며,
+ * 기동 시 최신 스냅샷과 그 이후의 로그만 replay 해 저장소 상태를 복원한다.
+ */
+public interface RepositoryJournal<T> {
+
+    void appendSave(T entity);
+
+    void appendDelete(long key);
+
+    /**
+     * 저장소 반영과 기록을 하나의 변경으로 묶어 실행한다.
+     * 체크포인트는 진행 중인 변경이 모두 저장소에 반영된 뒤에만 로그를 교체한다.
+     */
+    void write(Runnable change);
+
+    /**
+     * 스냅샷과 로그를 순서대로 replay 한다. 이후 체크포인트는 contents 로 저장소의 현재 내용을 읽는다.
+     */
+    void open(Replayer<T> replayer, Supplier<? extends Iterable<T>> contents);
+
+    /**
+     * 현재 내용을 스냅샷으로 남기고, 스냅샷에 포함된 이전 로그를 정리한다.
+     */
+    void checkpoint();
+
+    interface Replayer<T> {
+
+        void onSave(T entity);
+
+        void onDelete(long key);
+    }
+
+    /**
+     * 아무것도 기록하지 않는 journal (영속화 비활성 시 기본값).
+     */
+    static <T> RepositoryJournal<T> disabled() {
+        return new RepositoryJournal<>() {
+            @Override
+            public void appendSave(T entity) {
+            }
+
+            @Override
+            public void appendDelete(long key) {
+            }
+
+            @Override
+            public void write(Runnable change) {
+                change.run();
+            }
+
+            @Override
+            public void open(Replayer<T> replayer, Supplier<? extends Iterable<T>> contents) {
+            }
+
+            @Override
+            public void checkpoint() {
+            }
+        };
+    }
+}
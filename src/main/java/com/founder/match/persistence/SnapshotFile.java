@@ -0,0 +1,113 @@
+package com.founder.match.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 저장소 전체 내용을 담는 binary 스냅샷 파일.
+ *
+ * 형식: [magic:int][version:int][generation:long] ([length:int][payload])* [count:long][crc32:int]
+ * (crc32 는 자신을 제외한 앞의 모든 바이트에 대한 값)
+ *
+ * 임시 파일에 쓰고 fsync 한 뒤 rename 하므로 중간에 죽어도 이전 스냅샷이 그대로 남는다.
+ * 읽을 때는 FileChannel.map 으로 파일 전체를 매핑해 복사 없이 디코딩한다.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x464D534E;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8;
+    private static final int TRAILER_BYTES = 8 + 4;
+
+    private SnapshotFile() {
+    }
+
+    public static <T> long write(Path path, long generation, Iterable<T> entities, RecordCodec<T> codec)
+            throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 20), crc);
+            RecordWriter header = new RecordWriter(HEADER_BYTES);
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            header.writeLong(generation);
+            out.write(header.array(), 0, header.size());
+
+            RecordWriter record = new RecordWriter();
+            for (T entity : entities) {
+                record.reset();
+                record.writeInt(0);
+                codec.write(entity, record);
+                record.setInt(0, record.size() - 4);
+                out.write(record.array(), 0, record.size());
+                count++;
+            }
+
+            RecordWriter trailer = new RecordWriter(TRAILER_BYTES);
+            trailer.writeLong(count);
+            out.write(trailer.array(), 0, trailer.size());
+            out.flush();
+            trailer.reset();
+            trailer.writeInt((int) crc.getValue());
+            out.write(trailer.array(), 0, trailer.size());
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return count;
+    }
+
+    /**
+     * 스냅샷을 읽어 엔티티마다 consumer 를 호출하고 스냅샷의 generation 을 돌려준다.
+     * 형식이나 crc 가 맞지 않으면 IOException 을 던진다.
+     */
+    public static <T> long load(Path path, RecordCodec<T> codec, Consumer<T> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 크기가 올바르지 않습니다: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int bodyEnd = (int) size - TRAILER_BYTES;
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, bodyEnd + 8));
+            if ((int) crc.getValue() != buffer.getInt(bodyEnd + 8)) {
+                throw new IOException("스냅샷 crc 가 일치하지 않습니다: " + path);
+            }
+
+            RecordReader header = new RecordReader(buffer);
+            if (header.readInt() != MAGIC || header.readInt() != VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 형식입니다: " + path);
+            }
+            long generation = header.readLong();
+            long count = buffer.getLong(bodyEnd);
+            for (long i = 0; i < count; i++) {
+                int length = buffer.getInt();
+                ByteBuffer body = buffer.slice(buffer.position(), length);
+                consumer.accept(codec.read(new RecordReader(body)));
+                buffer.position(buffer.position() + length);
+            }
+            if (buffer.position() != bodyEnd) {
+                throw new IOException("스냅샷 레코드 수가 기록된 건수와 다릅니다: " + path);
+            }
+            return generation;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.founder.match.persistence;
+
+import java.util.List;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 journal 의 주기적 체크포인트(스냅샷 저장 + 이전 로그 정리).
+ * 종료 시에도 한 번 스냅샷을 남겨 다음 기동 때 replay 할 로그를 줄인다.
+ */
+@Component
+public class SnapshotScheduler implements DisposableBean {
+
+    private final List<RepositoryJournal<?>> journals;
+
+    public SnapshotScheduler(List<RepositoryJournal<?>> journals) {
+        this.journals = journals;
+    }
+
+    @Scheduled(initialDelayString = "${persistence.snapshot.interval-ms:600000}",
+            fixedDelayString = "${persistence.snapshot.interval-ms:600000}")
+    public void checkpoint() {
+        journals.forEach(RepositoryJournal::checkpoint);
+    }
+
+    @Override
+    public void destroy() {
+        checkpoint();
+    }
+}
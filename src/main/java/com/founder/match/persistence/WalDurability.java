@@ -0,0 +1,13 @@
+package com.founder.match.persistence;
+
+/**
+ * WriteAheadLog.write 가 언제 반환하는지.
+ */
+public enum WalDurability {
+
+    /** 자기 레코드가 fsync 된 뒤 반환한다. 반환된 변경은 프로세스가 죽어도 남는다. */
+    SYNC,
+
+    /** fsync 를 기다리지 않고 반환한다. 기록은 fsync 주기마다 한꺼번에 하며, 그 사이에 죽으면 마지막 주기의 변경을 잃을 수 있다. */
+    INTERVAL
+}
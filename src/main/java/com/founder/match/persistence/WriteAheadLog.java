@@ -0,0 +1,517 @@
+package com.founder.match.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 기반 append-only write-ahead log 와 스냅샷.
+ *
+ * 레코드 형식: [length:int][type:byte][payload][crc32:int] (length = type + payload 길이)
+ *
+ * append 는 메모리 버퍼에 직렬화만 한다. durability=SYNC 면 write 는 변경을 반영한 뒤 그 레코드가 fsync 될 때까지
+ * 기다렸다가 반환하고(DurabilityScope 안이면 대기를 범위 끝으로 미룬다), INTERVAL 이면 기다리지 않는다.
+ * fsync 는 전용 스레드가 한 번에 하나씩 하며, 그동안 쌓인 레코드는 다음 fsync 에 한꺼번에 실린다(group commit).
+ * SYNC 는 기다리는 쓰기가 있을 때마다, INTERVAL 은 fsyncInterval 마다 기록한다.
+ * 아직 fsync 되지 않은 레코드가 maxPendingBytes 를 넘으면 새 변경은 시작 전에 기다린다.
+ * 끝부분이 잘리거나 CRC 가 맞지 않는 레코드는 replay 시 버리고 파일을 그 앞까지 잘라낸다.
+ *
+ * 로그는 generation 단위 파일({name}-{generation}.wal)로 나뉜다. 체크포인트는 새 generation 으로 로그를 교체한 뒤
+ * 저장소 내용을 {name}-{generation}.snap 으로 남기고 이전 파일을 지운다. 기동 시에는 최신 스냅샷을 읽고
+ * 그 generation 이후의 로그만 replay 한다. 레코드는 엔티티 전체 상태를 담으므로 스냅샷에 이미 반영된 변경을
+ * 다시 적용해도 결과는 같다.
+ */
+@Slf4j
+public class WriteAheadLog<T> implements RepositoryJournal<T>, AutoCloseable {
+
+    private static final byte TYPE_SAVE = 1;
+    private static final byte TYPE_DELETE = 2;
+    private static final int HEADER_BYTES = 4;
+    private static final int CRC_BYTES = 4;
+    private static final String LOG_SUFFIX = "wal";
+    private static final String SNAPSHOT_SUFFIX = "snap";
+
+    private final Path directory;
+    private final String name;
+    private final Pattern fileNamePattern;
+    private final RecordCodec<T> codec;
+    private final long maxPendingBytes;
+    private final WalDurability durability;
+    private final long fsyncIntervalNanos;
+
+    /** 변경(read)과 로그 교체(write)를 배타적으로 만든다. */
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition commitRequested = commitLock.newCondition();
+    private final Condition committed = commitLock.newCondition();
+    private final CRC32 appendCrc = new CRC32();
+    private RecordWriter pending = new RecordWriter(64 * 1024);
+    private RecordWriter flushing = new RecordWriter(64 * 1024);
+    private FileChannel channel;
+    private long generation;
+    /** 지금까지 append 한 바이트 수. appendLock 안에서만 바꾼다. */
+    private volatile long appendedPosition;
+    /** fsync 까지 끝난 바이트 수. commitLock 으로 보호한다. */
+    private long durablePosition;
+    private boolean commitPending;
+    private boolean closed;
+    private Thread flusher;
+    private volatile Supplier<? extends Iterable<T>> contents;
+    private volatile IOException failure;
+
+    public WriteAheadLog(Path directory, String name, RecordCodec<T> codec, long maxPendingBytes) {
+        this(directory, name, codec, maxPendingBytes, WalDurability.SYNC, 0);
+    }
+
+    /**
+     * @param fsyncIntervalMillis INTERVAL 모드에서 쌓인 레코드를 기록하는 주기
+     */
+    public WriteAheadLog(Path directory, String name, RecordCodec<T> codec, long maxPendingBytes,
+                         WalDurability durability, long fsyncIntervalMillis) {
+        if (durability == WalDurability.INTERVAL && fsyncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("INTERVAL 모드의 fsync 주기는 1ms 이상이어야 합니다: " + fsyncIntervalMillis);
+        }
+        this.directory = directory;
+        this.name = name;
+        this.fileNamePattern = Pattern.compile(Pattern.quote(name) + "-(\\d+)\\.(" + LOG_SUFFIX + "|" + SNAPSHOT_SUFFIX + ")");
+        this.codec = codec;
+        this.maxPendingBytes = maxPendingBytes;
+        this.durability = durability;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+    }
+
+    @Override
+    public void appendSave(T entity) {
+        appendLock.lock();
+        try {
+            checkHealthy();
+            int start = beginRecord(TYPE_SAVE);
+            try {
+                codec.write(entity, pending);
+            } catch (RuntimeException e) {
+                pending.truncate(start);
+                throw e;
+            }
+            endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void appendDelete(long key) {
+        appendLock.lock();
+        try {
+            checkHealthy();
+            int start = beginRecord(TYPE_DELETE);
+            pending.writeLong(key);
+            endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 변경을 반영하고, SYNC 모드면 그때까지 append 된 레코드가 fsync 될 때까지 기다린다.
+     * 안쪽에서 다시 부른 write 는 기다리지 않고, 가장 바깥 write 가 한 번만 기다린다.
+     */
+    @Override
+    public void write(Runnable change) {
+        boolean outermost = gate.getReadHoldCount() == 0;
+        if (outermost) {
+            awaitCapacity();
+        }
+        try {
+            gate.readLock().lock();
+            try {
+                change.run();
+            } finally {
+                gate.readLock().unlock();
+            }
+        } finally {
+            // 변경 중간에 실패해도 그 전까지 메모리에 반영된 레코드는 fsync 를 기다린다.
+            if (outermost && durability == WalDurability.SYNC) {
+                long position = appendedPosition;
+                if (!DurabilityScope.defer(this, position)) {
+                    awaitDurable(position);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void open(Replayer<T> replayer, Supplier<? extends Iterable<T>> contents) {
+        flushLock.lock();
+        try {
+            long started = System.nanoTime();
+            Files.createDirectories(directory);
+            TreeMap<Long, Path> snapshots = list(SNAPSHOT_SUFFIX);
+            TreeMap<Long, Path> logs = list(LOG_SUFFIX);
+
+            long snapshotGeneration = 0;
+            long snapshotRecords = 0;
+            if (!snapshots.isEmpty()) {
+                long[] count = new long[1];
+                snapshotGeneration = SnapshotFile.load(snapshots.lastEntry().getValue(), codec, entity -> {
+                    replayer.onSave(entity);
+                    count[0]++;
+                });
+                snapshotRecords = count[0];
+            }
+
+            long logRecords = 0;
+            long lastGeneration = logs.isEmpty() ? 0 : logs.lastKey();
+            for (var entry : logs.tailMap(snapshotGeneration, true).entrySet()) {
+                logRecords += replayLog(entry.getValue(), replayer);
+            }
+
+            generation = Math.max(snapshotGeneration, lastGeneration);
+            channel = openLog(generation);
+            this.contents = contents;
+            deleteBefore(snapshotGeneration);
+            flusher = new Thread(this::runFlusher, "wal-flusher-" + name);
+            flusher.setDaemon(true);
+            flusher.start();
+            log.info("저장소 복원 완료: {} (스냅샷 {}건, 로그 {}건, {}ms)",
+                    name, snapshotRecords, logRecords, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 복원에 실패했습니다: " + name, e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void checkpoint() {
+        Supplier<? extends Iterable<T>> source = contents;
+        if (source == null) {
+            return;
+        }
+        checkpointLock.lock();
+        try {
+            long started = System.nanoTime();
+            // 교체 중 변경이 막히는 시간을 줄이기 위해 쌓인 레코드를 미리 기록한다.
+            flush();
+            long snapshotGeneration;
+            gate.writeLock().lock();
+            try {
+                snapshotGeneration = rotate();
+            } finally {
+                gate.writeLock().unlock();
+            }
+            long count = SnapshotFile.write(path(snapshotGeneration, SNAPSHOT_SUFFIX), snapshotGeneration, source.get(), codec);
+            deleteBefore(snapshotGeneration);
+            log.info("스냅샷 저장 완료: {} ({}건, generation={}, {}ms)",
+                    name, count, snapshotGeneration, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException e) {
+            log.error("스냅샷 저장에 실패했습니다: {}", name, e);
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    /**
+     * 쌓인 레코드를 파일에 기록하고 fsync 한다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            writePending();
+        } catch (IOException e) {
+            fail(e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        commitLock.lock();
+        try {
+            closed = true;
+            commitRequested.signal();
+        } finally {
+            commitLock.unlock();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushLock.lock();
+        try {
+            writePending();
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("WAL 파일을 닫는 중 오류가 발생했습니다: {}", name, e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 로그를 마무리하고 다음 generation 의 로그로 교체한다. 반환값은 새 generation.
+     */
+    private long rotate() throws IOException {
+        flushLock.lock();
+        try {
+            writePending();
+            FileChannel next = openLog(generation + 1);
+            channel.close();
+            channel = next;
+            return ++generation;
+        } catch (IOException e) {
+            fail(e);
+            throw e;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void writePending() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        RecordWriter batch;
+        long batchEnd;
+        appendLock.lock();
+        try {
+            batchEnd = appendedPosition;
+            batch = pending;
+            pending = flushing;
+            flushing = batch;
+        } finally {
+            appendLock.unlock();
+        }
+
+        // 비어 있으면 앞선 기록에서 이미 fsync 가 끝난 것이다.
+        if (batch.size() > 0) {
+            ByteBuffer buffer = ByteBuffer.wrap(batch.array(), 0, batch.size());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            batch.reset();
+        }
+        markDurable(batchEnd);
+    }
+
+    /**
+     * 기다리는 변경이 있을 때마다(INTERVAL 모드는 주기마다도) 쌓인 레코드를 한 번에 기록하고 fsync 한다.
+     */
+    private void runFlusher() {
+        while (true) {
+            commitLock.lock();
+            try {
+                if (durability == WalDurability.INTERVAL) {
+                    if (!commitPending && !closed) {
+                        awaitInterval();
+                    }
+                } else {
+                    while (!commitPending && !closed) {
+                        commitRequested.awaitUninterruptibly();
+                    }
+                }
+                if (closed && !commitPending) {
+                    return;
+                }
+                commitPending = false;
+            } finally {
+                commitLock.unlock();
+            }
+            flush();
+        }
+    }
+
+    private void awaitInterval() {
+        long remaining = fsyncIntervalNanos;
+        while (remaining > 0 && !commitPending && !closed) {
+            try {
+                remaining = commitRequested.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                // 기록을 멈추면 쓰기가 대기열 상한에서 영영 기다리므로 종료 요청(close) 전까지는 계속 돈다.
+                log.warn("WAL 기록 스레드 인터럽트를 무시합니다: {}", name);
+            }
+        }
+    }
+
+    private void awaitCapacity() {
+        commitLock.lock();
+        try {
+            while (appendedPosition - durablePosition >= maxPendingBytes) {
+                checkHealthy();
+                requestCommit();
+                committed.awaitUninterruptibly();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    void awaitDurable(long position) {
+        commitLock.lock();
+        try {
+            while (durablePosition < position) {
+                checkHealthy();
+                requestCommit();
+                committed.awaitUninterruptibly();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private void requestCommit() {
+        if (closed) {
+            throw new IllegalStateException("WAL 이 이미 닫혔습니다: " + name);
+        }
+        commitPending = true;
+        commitRequested.signal();
+    }
+
+    private void markDurable(long position) {
+        commitLock.lock();
+        try {
+            durablePosition = Math.max(durablePosition, position);
+            committed.signalAll();
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private long replayLog(Path path, Replayer<T> replayer) throws IOException {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = file.size();
+            long validEnd = 0;
+            long records = 0;
+            if (size > 0) {
+                MappedByteBuffer buffer = file.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                CRC32 crc = new CRC32();
+                while (buffer.remaining() >= HEADER_BYTES) {
+                    int start = buffer.position();
+                    int length = buffer.getInt();
+                    if (length <= 0 || buffer.remaining() < length + CRC_BYTES) {
+                        break;
+                    }
+                    ByteBuffer body = buffer.slice(start + HEADER_BYTES, length);
+                    crc.reset();
+                    crc.update(body.duplicate());
+                    buffer.position(start + HEADER_BYTES + length);
+                    if ((int) crc.getValue() != buffer.getInt()) {
+                        break;
+                    }
+                    apply(body, replayer);
+                    validEnd = buffer.position();
+                    records++;
+                }
+            }
+            if (validEnd < size) {
+                log.warn("WAL 끝부분의 손상된 레코드를 버립니다: {} ({} -> {} bytes)", path, size, validEnd);
+                file.truncate(validEnd);
+            }
+            return records;
+        }
+    }
+
+    private void apply(ByteBuffer body, Replayer<T> replayer) {
+        RecordReader reader = new RecordReader(body);
+        byte type = reader.readByte();
+        if (type == TYPE_SAVE) {
+            replayer.onSave(codec.read(reader));
+        } else if (type == TYPE_DELETE) {
+            replayer.onDelete(reader.readLong());
+        } else {
+            throw new IllegalStateException("알 수 없는 WAL 레코드 타입입니다: " + type);
+        }
+    }
+
+    private FileChannel openLog(long logGeneration) throws IOException {
+        FileChannel file = FileChannel.open(path(logGeneration, LOG_SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        file.position(file.size());
+        return file;
+    }
+
+    private void deleteBefore(long keepGeneration) throws IOException {
+        for (String suffix : new String[] {LOG_SUFFIX, SNAPSHOT_SUFFIX}) {
+            for (Path path : list(suffix).headMap(keepGeneration, false).values()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private TreeMap<Long, Path> list(String suffix) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                Matcher matcher = fileNamePattern.matcher(path.getFileName().toString());
+                if (matcher.matches() && matcher.group(2).equals(suffix)) {
+                    files.put(Long.parseLong(matcher.group(1)), path);
+                }
+            });
+        }
+        return files;
+    }
+
+    private Path path(long fileGeneration, String suffix) {
+        return directory.resolve(name + "-" + fileGeneration + "." + suffix);
+    }
+
+    private int beginRecord(byte type) {
+        int start = pending.size();
+        pending.writeInt(0);
+        pending.writeByte(type);
+        return start;
+    }
+
+    private void endRecord(int start) {
+        int length = pending.size() - start - HEADER_BYTES;
+        pending.setInt(start, length);
+        appendCrc.reset();
+        appendCrc.update(pending.array(), start + HEADER_BYTES, length);
+        pending.writeInt((int) appendCrc.getValue());
+        appendedPosition += pending.size() - start;
+    }
+
+    private void fail(IOException e) {
+        // 이후 쓰기는 모두 실패시켜 유실을 숨기지 않는다.
+        failure = e;
+        log.error("WAL 기록에 실패했습니다: {}", name, e);
+        commitLock.lock();
+        try {
+            committed.signalAll();
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private void checkHealthy() {
+        if (failure != null) {
+            throw new IllegalStateException("WAL 기록에 실패해 더 이상 변경을 받을 수 없습니다: " + name, failure);
+        }
+    }
+}
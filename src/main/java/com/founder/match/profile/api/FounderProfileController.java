@@ -1,9 +1,14 @@
 package com.founder.match.profile.api;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,10 +16,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.founder.match.common.bulk.BulkFormat;
+import com.founder.match.common.bulk.BulkImportResult;
+import com.founder.match.common.bulk.BulkRowReader;
+import com.founder.match.common.page.CursorPage;
+import com.founder.match.common.web.ETags;
+import com.founder.match.common.web.NdjsonStreamer;
 import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.dto.FounderProfileBulkRequest;
 import com.founder.match.profile.dto.FounderProfileRequest;
 import com.founder.match.profile.dto.FounderProfileResponse;
 import com.founder.match.profile.service.FounderProfileService;
@@ -23,35 +39,56 @@ import jakarta.validation.Valid;
 
 /**
  * FounderProfile REST API.
+ * 조회 응답에는 ETag 를 붙이고, If-None-Match 가 현재 값과 같으면 조회/직렬화 없이 304 로 응답한다.
  */
 @RestController
 @RequestMapping("/api")
 public class FounderProfileController {
 
     private final FounderProfileService profileService;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final BulkRowReader bulkRowReader;
 
-    public FounderProfileController(FounderProfileService profileService) {
+    public FounderProfileController(FounderProfileService profileService,
+                                    NdjsonStreamer ndjsonStreamer,
+                                    BulkRowReader bulkRowReader) {
         this.profileService = profileService;
+        this.ndjsonStreamer = ndjsonStreamer;
+        this.bulkRowReader = bulkRowReader;
     }
 
     @PostMapping("/users/{userId}/profile")
     public ResponseEntity<FounderProfileResponse> createProfile(@PathVariable Long userId,
                                                                 @Valid @RequestBody FounderProfileRequest request) {
         FounderProfile created = profileService.createProfile(userId, request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(FounderProfileResponse.from(created));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.of(created.getId(), created.getVersion()))
+                .body(FounderProfileResponse.from(created));
     }
 
+    /**
+     * If-Match 에 GET 으로 받은 ETag 를 보내면 그 사이 다른 수정이 있었을 때 412 로 거절한다.
+     */
     @PutMapping("/users/{userId}/profile")
     public ResponseEntity<FounderProfileResponse> updateProfile(@PathVariable Long userId,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                                 @Valid @RequestBody FounderProfileRequest request) {
-        FounderProfile updated = profileService.updateProfile(userId, request);
-        return ResponseEntity.ok(FounderProfileResponse.from(updated));
+        FounderProfile updated = profileService.updateProfile(userId, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updated.getId(), updated.getVersion()))
+                .body(FounderProfileResponse.from(updated));
     }
 
     @GetMapping("/users/{userId}/profile")
-    public ResponseEntity<FounderProfileResponse> getProfile(@PathVariable Long userId) {
+    public ResponseEntity<FounderProfileResponse> getProfile(@PathVariable Long userId, WebRequest webRequest) {
         FounderProfile profile = profileService.getProfile(userId);
-        return ResponseEntity.ok(FounderProfileResponse.from(profile));
+        String eTag = ETags.of(profile.getId(), profile.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(FounderProfileResponse.from(profile));
     }
 
     @DeleteMapping("/users/{userId}/profile")
@@ -61,12 +98,57 @@ public class FounderProfileController {
     }
 
     @GetMapping("/profiles")
-    public ResponseEntity<List<FounderProfileResponse>> getAllProfiles() {
+    public ResponseEntity<List<FounderProfileResponse>> getAllProfiles(WebRequest webRequest) {
+        String eTag = ETags.ofCollection("profiles", profileService.modificationCount());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<FounderProfileResponse> responses = profileService.getAllProfiles()
                 .stream()
                 .map(FounderProfileResponse::from)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().eTag(eTag).body(responses);
+    }
+
+    @GetMapping(value = "/profiles", params = "limit")
+    public ResponseEntity<CursorPage<FounderProfileResponse>> getProfilePage(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam int limit,
+                                                                             WebRequest webRequest) {
+        String eTag = ETags.ofCollection("profiles", profileService.modificationCount());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(profileService.getProfilePage(cursor, limit).map(FounderProfileResponse::from));
     }
-}
 
+    /**
+     * 한 줄에 userId 와 프로필 필드를 담은 NDJSON 으로 일괄 생성한다. 잘못된 줄은 건너뛰고 줄 번호와 함께 보고한다.
+     */
+    @PostMapping(value = "/profiles/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResult> importProfilesNdjson(InputStream body) throws IOException {
+        return importProfiles(body, BulkFormat.NDJSON);
+    }
+
+    /**
+     * userId 와 프로필 필드 이름을 헤더로 쓰는 CSV 로 일괄 생성한다. skills/interests 는 ';' 로 구분한다.
+     */
+    @PostMapping(value = "/profiles/bulk", consumes = BulkRowReader.TEXT_CSV_VALUE)
+    public ResponseEntity<BulkImportResult> importProfilesCsv(InputStream body) throws IOException {
+        return importProfiles(body, BulkFormat.CSV);
+    }
+
+    @GetMapping("/profiles/stream")
+    public ResponseEntity<StreamingResponseBody> streamProfiles() {
+        return ndjsonStreamer.stream(cursor -> profileService
+                .getProfilePage(cursor, NdjsonStreamer.CHUNK_SIZE)
+                .map(FounderProfileResponse::from));
+    }
+
+    private ResponseEntity<BulkImportResult> importProfiles(InputStream body, BulkFormat format) throws IOException {
+        BulkImportResult result = bulkRowReader.read(body, format, FounderProfileBulkRequest.class,
+                Set.of("skills", "interests"), profileService::createProfiles);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -3,33 +3,49 @@ package com.founder.match.profile.domain;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import lombok.AllArgsConstructor;
+import com.founder.match.common.term.TermDictionary;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.Value;
+import lombok.With;
 
 /**
  * Founder(창업자) 상세 프로필 도메인.
+ * 스킬/관심사는 TermDictionary id 배열로 보관하고, 조회 시 그 사전으로 문자열을 복원한다.
+ * 태그는 사전이 정규화한 값(소문자, 공백 정리)으로, 요청에 적힌 순서대로 중복을 뺀 채 돌려준다.
+ * 불변 객체이며(id 배열은 빌더에 넣을 때와 getter 로 꺼낼 때 복사한다), 수정은 새 인스턴스를 저장소에 원자적으로 교체하는 방식으로 한다.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+@Value
+@Builder(toBuilder = true)
 public class FounderProfile {
 
-    private Long id;
-    private Long userId;
-    private String role;
-    private List<String> skills;
-    private List<String> interests;
-    private String availability;
-    private String bio;
+    @With
+    Long id;
+    Long userId;
+    String role;
+    @Getter(AccessLevel.NONE)
+    int[] skillIds;
+    @Getter(AccessLevel.NONE)
+    int[] interestIds;
+    String availability;
+    String bio;
     @Builder.Default
-    private LocalDateTime createdAt = LocalDateTime.now();
+    LocalDateTime createdAt = LocalDateTime.now();
     @Builder.Default
-    private LocalDateTime updatedAt = LocalDateTime.now();
+    LocalDateTime updatedAt = LocalDateTime.now();
+    /** 수정될 때마다 1씩 증가하는 낙관적 동시성 제어용 버전. */
+    long version;
+    /** skillIds/interestIds 를 만든 태그 사전. */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    TermDictionary tags;
 
-    public static FounderProfile create(Long userId,
+    public static FounderProfile create(TermDictionary tags,
+                                        Long userId,
                                         String role,
                                         List<String> skills,
                                         List<String> interests,
@@ -39,26 +55,68 @@ public class FounderProfile {
         return FounderProfile.builder()
                 .userId(userId)
                 .role(role)
-                .skills(skills)
-                .interests(interests)
+                .skillIds(tags.internAll(skills))
+                .interestIds(tags.internAll(interests))
                 .availability(availability)
                 .bio(bio)
                 .createdAt(now)
                 .updatedAt(now)
+                .tags(tags)
                 .build();
     }
 
-    public void update(String role,
-                       List<String> skills,
-                       List<String> interests,
-                       String availability,
-                       String bio) {
-        this.role = role;
-        this.skills = skills;
-        this.interests = interests;
-        this.availability = availability;
-        this.bio = bio;
-        this.updatedAt = LocalDateTime.now();
+    /**
+     * 수정 내용을 반영한 새 인스턴스를 돌려준다. 이 인스턴스는 바뀌지 않는다.
+     */
+    public FounderProfile updated(String role,
+                                  List<String> skills,
+                                  List<String> interests,
+                                  String availability,
+                                  String bio) {
+        return toBuilder()
+                .role(role)
+                .skillIds(tags.internAll(skills))
+                .interestIds(tags.internAll(interests))
+                .availability(availability)
+                .bio(bio)
+                .updatedAt(LocalDateTime.now())
+                .version(version + 1)
+                .build();
     }
-}
 
+    /**
+     * 입력 순서대로 중복을 뺀 스킬 id 의 복사본. 돌려받은 배열을 바꿔도 이 인스턴스에는 영향이 없다.
+     */
+    public int[] getSkillIds() {
+        return copy(skillIds);
+    }
+
+    public int[] getInterestIds() {
+        return copy(interestIds);
+    }
+
+    public List<String> getSkills() {
+        return tags.terms(skillIds);
+    }
+
+    public List<String> getInterests() {
+        return tags.terms(interestIds);
+    }
+
+    private static int[] copy(int[] ids) {
+        return ids == null ? new int[0] : ids.clone();
+    }
+
+    public static class FounderProfileBuilder {
+
+        public FounderProfileBuilder skillIds(int[] skillIds) {
+            this.skillIds = copy(skillIds);
+            return this;
+        }
+
+        public FounderProfileBuilder interestIds(int[] interestIds) {
+            this.interestIds = copy(interestIds);
+            return this;
+        }
+    }
+}
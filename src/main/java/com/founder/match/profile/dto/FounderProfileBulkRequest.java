@@ -0,0 +1,16 @@
+package com.founder.match.profile.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 프로필 일괄 등록의 한 줄. 대상 사용자를 함께 지정한다.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class FounderProfileBulkRequest extends FounderProfileRequest {
+
+    @NotNull
+    private Long userId;
+}
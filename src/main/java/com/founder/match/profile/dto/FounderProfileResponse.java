@@ -23,6 +23,7 @@ public class FounderProfileResponse {
     private final String bio;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final long version;
 
     public static FounderProfileResponse from(FounderProfile profile) {
         return FounderProfileResponse.builder()
@@ -35,6 +36,7 @@ public class FounderProfileResponse {
                 .bio(profile.getBio())
                 .createdAt(profile.getCreatedAt())
                 .updatedAt(profile.getUpdatedAt())
+                .version(profile.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,30 @@
+package com.founder.match.profile.event;
+
+import com.founder.match.profile.domain.FounderProfile;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * FounderProfile 생성/수정/삭제 이후 발행되는 애플리케이션 이벤트.
+ * 삭제된 경우 profile 은 null 이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FounderProfileChangedEvent {
+
+    private final Long userId;
+    private final FounderProfile profile;
+
+    public static FounderProfileChangedEvent saved(FounderProfile profile) {
+        return new FounderProfileChangedEvent(profile.getUserId(), profile);
+    }
+
+    public static FounderProfileChangedEvent deleted(Long userId) {
+        return new FounderProfileChangedEvent(userId, null);
+    }
+
+    public boolean isDeleted() {
+        return profile == null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.founder.match.profile.event;
+
+import java.util.List;
+
+import com.founder.match.profile.domain.FounderProfile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 등록으로 여러 FounderProfile 이 한 번에 생성된 뒤 발행되는 애플리케이션 이벤트.
+ * 건별 FounderProfileChangedEvent 대신 묶음 단위로 한 번만 발행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class FounderProfilesImportedEvent {
+
+    private final List<FounderProfile> profiles;
+}
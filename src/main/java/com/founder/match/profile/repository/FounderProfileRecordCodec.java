@@ -0,0 +1,51 @@
+package com.founder.match.profile.repository;
+
+import com.founder.match.common.term.TermDictionary;
+import com.founder.match.persistence.RecordCodec;
+import com.founder.match.persistence.RecordReader;
+import com.founder.match.persistence.RecordWriter;
+import com.founder.match.profile.domain.FounderProfile;
+
+/**
+ * FounderProfile 의 WAL 레코드 형식.
+ * TermDictionary id 는 프로세스마다 달라지므로 스킬/관심사는 문자열로 기록하고 읽을 때 다시 intern 한다.
+ */
+public class FounderProfileRecordCodec implements RecordCodec<FounderProfile> {
+
+    private final TermDictionary tags;
+
+    public FounderProfileRecordCodec(TermDictionary tags) {
+        this.tags = tags;
+    }
+
+    @Override
+    public void write(FounderProfile profile, RecordWriter writer) {
+        writer.writeLong(profile.getId());
+        writer.writeLong(profile.getUserId());
+        writer.writeString(profile.getRole());
+        writer.writeStrings(profile.getSkills());
+        writer.writeStrings(profile.getInterests());
+        writer.writeString(profile.getAvailability());
+        writer.writeString(profile.getBio());
+        writer.writeDateTime(profile.getCreatedAt());
+        writer.writeDateTime(profile.getUpdatedAt());
+        writer.writeLong(profile.getVersion());
+    }
+
+    @Override
+    public FounderProfile read(RecordReader reader) {
+        return FounderProfile.builder()
+                .id(reader.readLong())
+                .userId(reader.readLong())
+                .role(reader.readString())
+                .skillIds(tags.restoreAll(reader.readStrings()))
+                .interestIds(tags.restoreAll(reader.readStrings()))
+                .availability(reader.readString())
+                .bio(reader.readString())
+                .createdAt(reader.readDateTime())
+                .updatedAt(reader.readDateTime())
+                .version(reader.readLong())
+                .tags(tags)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.founder.match.profile.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.founder.match.profile.domain.FounderProfile;
 
@@ -10,8 +11,34 @@ import com.founder.match.profile.domain.FounderProfile;
  */
 public interface FounderProfileRepository {
     FounderProfile save(FounderProfile profile);
+
+    /**
+     * 여러 건을 한 번에 저장한다. 구현체는 가능한 경우 batch 로 처리한다.
+     */
+    List<FounderProfile> saveAll(List<FounderProfile> profiles);
+
+    /**
+     * 저장된 값의 version 이 expected 와 같을 때만 updated 로 교체한다(CAS).
+     * 그 사이 다른 수정이 반영됐거나 삭제됐으면 false 를 돌려준다.
+     */
+    boolean replace(FounderProfile expected, FounderProfile updated);
     Optional<FounderProfile> findByUserId(Long userId);
     List<FounderProfile> findAll();
+
+    /**
+     * 모든 항목을 목록으로 복사하지 않고 차례로 넘긴다. 순회 중의 변경은 반영될 수도, 안 될 수도 있다.
+     */
+    void forEach(Consumer<? super FounderProfile> action);
+
+    /**
+     * afterUserId 보다 큰 userId를 오름차순으로 최대 limit 건 조회한다.
+     */
+    List<FounderProfile> findPage(Long afterUserId, int limit);
     void deleteByUserId(Long userId);
+
+    /**
+     * 이 저장소를 거친 변경(저장/교체/삭제) 횟수. 변경이 반영된 뒤에 증가하므로 목록 응답의 ETag 로 쓸 수 있다.
+     */
+    long modificationCount();
 }
 
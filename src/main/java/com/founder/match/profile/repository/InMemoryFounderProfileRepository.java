@@ -2,32 +2,114 @@ package com.founder.match.profile.repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.common.metrics.WithoutMethodMetrics;
+import com.founder.match.persistence.RepositoryJournal;
 import com.founder.match.profile.domain.FounderProfile;
 
 /**
  * FounderProfile용 인메모리 저장소.
+ * 본체는 compute 가 한 번만, 원자적으로 실행되는 ConcurrentHashMap 이고, 페이지 조회용 userId 정렬 인덱스를 따로 둔다.
+ * 변경은 journal 과 변경 로그에 함께 기록하고, 생성 시 journal 의 스냅샷과 로그로 이전 상태를 복원한다.
  */
 @Repository
+@WithoutMethodMetrics
+@Profile("!jdbc")
 public class InMemoryFounderProfileRepository implements FounderProfileRepository {
 
     private final ConcurrentMap<Long, FounderProfile> storage = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Long> userIds = new ConcurrentSkipListSet<>();
     private final AtomicLong sequence = new AtomicLong(0L);
+    private final AtomicLong modifications = new AtomicLong(0L);
+    private final RepositoryJournal<FounderProfile> journal;
+    private final ChangeEventLog changeLog;
+
+    public InMemoryFounderProfileRepository(RepositoryJournal<FounderProfile> journal, ChangeEventLog changeLog) {
+        this.journal = journal;
+        this.changeLog = changeLog;
+        journal.open(new RepositoryJournal.Replayer<>() {
+            @Override
+            public void onSave(FounderProfile profile) {
+                storage.put(profile.getUserId(), profile);
+                userIds.add(profile.getUserId());
+                sequence.accumulateAndGet(profile.getId(), Math::max);
+            }
+
+            @Override
+            public void onDelete(long userId) {
+                storage.remove(userId);
+                userIds.remove(userId);
+            }
+        }, storage::values);
+    }
 
     @Override
     public FounderProfile save(FounderProfile profile) {
-        if (profile.getId() == null) {
-            long id = sequence.incrementAndGet();
-            profile.setId(id);
+        FounderProfile toSave = profile.getId() == null ? profile.withId(sequence.incrementAndGet()) : profile;
+        journal.write(() -> storage.compute(toSave.getUserId(), (userId, previous) -> {
+            journal.appendSave(toSave);
+            changeLog.saved(ChangeEntityType.PROFILE, userId, toSave);
+            userIds.add(userId);
+            return toSave;
+        }));
+        modifications.incrementAndGet();
+        return toSave;
+    }
+
+    /**
+     * 새 id 는 묶음 크기만큼 sequence 에서 한 번에 받아 차례로 붙이고, journal 게이트도 묶음 전체에 한 번만 잡는다.
+     */
+    @Override
+    public List<FounderProfile> saveAll(List<FounderProfile> profiles) {
+        long newCount = profiles.stream().filter(profile -> profile.getId() == null).count();
+        long nextId = sequence.getAndAdd(newCount) + 1;
+        List<FounderProfile> toSave = new ArrayList<>(profiles.size());
+        for (FounderProfile profile : profiles) {
+            toSave.add(profile.getId() == null ? profile.withId(nextId++) : profile);
+        }
+        journal.write(() -> {
+            for (FounderProfile profile : toSave) {
+                storage.compute(profile.getUserId(), (userId, previous) -> {
+                    journal.appendSave(profile);
+                    changeLog.saved(ChangeEntityType.PROFILE, userId, profile);
+                    userIds.add(userId);
+                    return profile;
+                });
+            }
+        });
+        modifications.incrementAndGet();
+        return toSave;
+    }
+
+    @Override
+    public boolean replace(FounderProfile expected, FounderProfile updated) {
+        boolean[] replaced = new boolean[1];
+        journal.write(() -> storage.computeIfPresent(expected.getUserId(), (userId, current) -> {
+            // 삭제 후 다시 만든 프로필은 version 이 같아도 id 가 다르다.
+            replaced[0] = current.getId().equals(expected.getId()) && current.getVersion() == expected.getVersion();
+            if (!replaced[0]) {
+                return current;
+            }
+            journal.appendSave(updated);
+            changeLog.saved(ChangeEntityType.PROFILE, userId, updated);
+            return updated;
+        }));
+        if (replaced[0]) {
+            modifications.incrementAndGet();
         }
-        storage.put(profile.getUserId(), profile);
-        return profile;
+        return replaced[0];
     }
 
     @Override
@@ -40,9 +122,41 @@ public class InMemoryFounderProfileRepository implements FounderProfileRepositor
         return new ArrayList<>(storage.values());
     }
 
+    @Override
+    public void forEach(Consumer<? super FounderProfile> action) {
+        storage.values().forEach(action);
+    }
+
+    @Override
+    public List<FounderProfile> findPage(Long afterUserId, int limit) {
+        NavigableSet<Long> tail = afterUserId == null ? userIds : userIds.tailSet(afterUserId, false);
+        List<FounderProfile> page = new ArrayList<>(Math.min(limit, 64));
+        for (Long userId : tail) {
+            if (page.size() >= limit) {
+                break;
+            }
+            FounderProfile profile = storage.get(userId);
+            if (profile != null) {
+                page.add(profile);
+            }
+        }
+        return page;
+    }
+
     @Override
     public void deleteByUserId(Long userId) {
-        storage.remove(userId);
+        journal.write(() -> storage.computeIfPresent(userId, (id, previous) -> {
+            journal.appendDelete(id);
+            changeLog.deleted(ChangeEntityType.PROFILE, id);
+            userIds.remove(id);
+            return null;
+        }));
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public long modificationCount() {
+        return modifications.get();
     }
 }
 
@@ -0,0 +1,299 @@
+package com.founder.match.profile.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.common.term.TermDictionary;
+import com.founder.match.profile.domain.FounderProfile;
+
+/**
+ * JDBC 기반 FounderProfileRepository (jdbc 프로파일).
+ * 스킬/관심사는 줄바꿈으로 이어 붙인 문자열로 저장하고, 읽을 때 TermDictionary 로 다시 intern 한다.
+ * 변경 횟수와 변경 로그는 이 프로세스를 거친 쓰기만 센다.
+ * 기존 행을 바꾸는 쓰기는 version 컬럼을 올리고 그 값을 변경 로그에 함께 남긴다. 잠금 없이 기록하므로 같은 userId 의 기록 순서는
+ * 반영 순서와 다를 수 있지만, version 이 반영 순서를 나타낸다. replace 는 updated 의 version 을, 그 밖의 수정은 저장된 version + 1 을 쓴다.
+ */
+@Repository
+@Profile("jdbc")
+public class JdbcFounderProfileRepository implements FounderProfileRepository {
+
+    private static final String COLUMNS = "id, user_id, role, skills, interests, availability, bio, created_at, updated_at, version";
+    private static final String INSERT_SQL = "INSERT INTO founder_profiles (user_id, role, skills, interests, "
+            + "availability, bio, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_COLUMNS = "UPDATE founder_profiles SET user_id = ?, role = ?, skills = ?, "
+            + "interests = ?, availability = ?, bio = ?, created_at = ?, updated_at = ?, ";
+    private static final String UPDATE_SQL = UPDATE_COLUMNS + "version = version + 1 WHERE id = ?";
+    private static final String REPLACE_SQL = UPDATE_COLUMNS + "version = ? WHERE id = ? AND version = ?";
+    private static final String VERSION_SQL = "SELECT version FROM founder_profiles WHERE id = ?";
+    private static final String[] GENERATED_KEYS = {"id"};
+    private static final int FETCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
+    private static final String TERM_SEPARATOR = "\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final AtomicLong modifications = new AtomicLong(0L);
+    private final ChangeEventLog changeLog;
+    private final TermDictionary tags;
+    private final RowMapper<FounderProfile> rowMapper = this::mapRow;
+
+    public JdbcFounderProfileRepository(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${repository.jdbc.batch-size:500}") int batchSize,
+                                        ChangeEventLog changeLog,
+                                        TermDictionary tags) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.changeLog = changeLog;
+        this.tags = tags;
+    }
+
+    @Override
+    public FounderProfile save(FounderProfile profile) {
+        if (profile.getId() == null) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_SQL, GENERATED_KEYS);
+                bindColumns(ps, profile);
+                ps.setLong(9, profile.getVersion());
+                return ps;
+            }, keyHolder);
+            FounderProfile saved = profile.withId(keyHolder.getKeyAs(Long.class));
+            modifications.incrementAndGet();
+            changeLog.saved(ChangeEntityType.PROFILE, saved.getUserId(), saved.getVersion(), saved);
+            return saved;
+        }
+        // 같은 트랜잭션 안에서 읽어야 올린 version 이 다른 쓰기와 섞이지 않는다.
+        Long version = transactionTemplate.execute(status -> {
+            int updatedRows = jdbcTemplate.update(UPDATE_SQL, ps -> {
+                bindColumns(ps, profile);
+                ps.setLong(9, profile.getId());
+            });
+            return updatedRows == 0 ? null : jdbcTemplate.queryForObject(VERSION_SQL, Long.class, profile.getId());
+        });
+        modifications.incrementAndGet();
+        if (version == null) {
+            return profile;
+        }
+        FounderProfile saved = profile.toBuilder().version(version).build();
+        changeLog.saved(ChangeEntityType.PROFILE, saved.getUserId(), version, saved);
+        return saved;
+    }
+
+    @Override
+    public List<FounderProfile> saveAll(List<FounderProfile> profiles) {
+        List<FounderProfile> saved = new ArrayList<>(profiles);
+        List<Integer> inserts = new ArrayList<>();
+        List<Integer> updates = new ArrayList<>();
+        for (int i = 0; i < profiles.size(); i++) {
+            (profiles.get(i).getId() == null ? inserts : updates).add(i);
+        }
+
+        for (int from = 0; from < inserts.size(); from += batchSize) {
+            List<Integer> chunk = inserts.subList(from, Math.min(from + batchSize, inserts.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            FounderProfile profile = profiles.get(chunk.get(i));
+                            bindColumns(ps, profile);
+                            ps.setLong(9, profile.getVersion());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    }, keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = chunk.get(i);
+                FounderProfile inserted = profiles.get(index).withId(((Number) keys.get(i).get("id")).longValue());
+                saved.set(index, inserted);
+                changeLog.saved(ChangeEntityType.PROFILE, inserted.getUserId(), inserted.getVersion(), inserted);
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            List<FounderProfile> updated = updates.stream().map(profiles::get).toList();
+            Map<Long, Long> versions = transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updated, batchSize, (ps, profile) -> {
+                    bindColumns(ps, profile);
+                    ps.setLong(9, profile.getId());
+                });
+                return currentVersions(updated);
+            });
+            // 같은 id 가 여러 번 있으면 뒤의 것이 마지막 version 을 갖고, 앞의 것은 하나씩 작은 version 을 갖는다.
+            FounderProfile[] versioned = new FounderProfile[updated.size()];
+            for (int i = updated.size() - 1; i >= 0; i--) {
+                Long version = versions.get(updated.get(i).getId());
+                if (version != null) {
+                    versioned[i] = updated.get(i).toBuilder().version(version).build();
+                    versions.put(versioned[i].getId(), version - 1);
+                }
+            }
+            for (int i = 0; i < versioned.length; i++) {
+                if (versioned[i] != null) {
+                    saved.set(updates.get(i), versioned[i]);
+                    changeLog.saved(ChangeEntityType.PROFILE, versioned[i].getUserId(), versioned[i].getVersion(), versioned[i]);
+                }
+            }
+        }
+        modifications.incrementAndGet();
+        return saved;
+    }
+
+    /**
+     * expected 의 version 이 그대로일 때만 UPDATE 한다.
+     */
+    @Override
+    public boolean replace(FounderProfile expected, FounderProfile updated) {
+        int updatedRows = jdbcTemplate.update(REPLACE_SQL, ps -> {
+            bindColumns(ps, updated);
+            ps.setLong(9, updated.getVersion());
+            ps.setLong(10, expected.getId());
+            ps.setLong(11, expected.getVersion());
+        });
+        if (updatedRows == 0) {
+            return false;
+        }
+        modifications.incrementAndGet();
+        changeLog.saved(ChangeEntityType.PROFILE, updated.getUserId(), updated.getVersion(), updated);
+        return true;
+    }
+
+    @Override
+    public Optional<FounderProfile> findByUserId(Long userId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM founder_profiles WHERE user_id = ?", rowMapper, userId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<FounderProfile> findAll() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM founder_profiles ORDER BY user_id", rowMapper);
+    }
+
+    /**
+     * 결과를 FETCH_SIZE 행씩 가져오며 한 행씩 넘긴다.
+     */
+    @Override
+    public void forEach(Consumer<? super FounderProfile> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement("SELECT " + COLUMNS + " FROM founder_profiles ORDER BY user_id");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(mapRow(rs, 0)));
+    }
+
+    @Override
+    public List<FounderProfile> findPage(Long afterUserId, int limit) {
+        if (afterUserId == null) {
+            return jdbcTemplate.query("SELECT " + COLUMNS + " FROM founder_profiles ORDER BY user_id LIMIT ?",
+                    rowMapper, limit);
+        }
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM founder_profiles WHERE user_id > ? ORDER BY user_id LIMIT ?",
+                rowMapper, afterUserId, limit);
+    }
+
+    /**
+     * 행을 잠그고 읽은 version 보다 1 큰 version 으로 삭제를 기록한다.
+     */
+    @Override
+    public void deleteByUserId(Long userId) {
+        Long version = transactionTemplate.execute(status -> {
+            List<Long> found = jdbcTemplate.queryForList(
+                    "SELECT version FROM founder_profiles WHERE user_id = ? FOR UPDATE", Long.class, userId);
+            jdbcTemplate.update("DELETE FROM founder_profiles WHERE user_id = ?", userId);
+            return found.isEmpty() ? null : found.get(0);
+        });
+        modifications.incrementAndGet();
+        if (version != null) {
+            changeLog.deleted(ChangeEntityType.PROFILE, userId, version + 1);
+        }
+    }
+
+    @Override
+    public long modificationCount() {
+        return modifications.get();
+    }
+
+    /**
+     * 지금 트랜잭션에서 본 id 별 version. IN_CLAUSE_SIZE 개씩 나눠 읽는다.
+     */
+    private Map<Long, Long> currentVersions(List<FounderProfile> profiles) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (int from = 0; from < profiles.size(); from += IN_CLAUSE_SIZE) {
+            List<FounderProfile> chunk = profiles.subList(from, Math.min(profiles.size(), from + IN_CLAUSE_SIZE));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id, version FROM founder_profiles WHERE id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> versions.put(rs.getLong(1), rs.getLong(2)),
+                    chunk.stream().map(FounderProfile::getId).toArray());
+        }
+        return versions;
+    }
+
+    private static void bindColumns(PreparedStatement ps, FounderProfile profile) throws SQLException {
+        ps.setLong(1, profile.getUserId());
+        ps.setString(2, profile.getRole());
+        ps.setString(3, String.join(TERM_SEPARATOR, profile.getSkills()));
+        ps.setString(4, String.join(TERM_SEPARATOR, profile.getInterests()));
+        ps.setString(5, profile.getAvailability());
+        ps.setString(6, profile.getBio());
+        ps.setTimestamp(7, timestamp(profile.getCreatedAt()));
+        ps.setTimestamp(8, timestamp(profile.getUpdatedAt()));
+    }
+
+    private FounderProfile mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return FounderProfile.builder()
+                .id(rs.getLong("id"))
+                .userId(rs.getLong("user_id"))
+                .role(rs.getString("role"))
+                .skillIds(tags.restoreAll(terms(rs.getString("skills"))))
+                .interestIds(tags.restoreAll(terms(rs.getString("interests"))))
+                .availability(rs.getString("availability"))
+                .bio(rs.getString("bio"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .version(rs.getLong("version"))
+                .tags(tags)
+                .build();
+    }
+
+    private static List<String> terms(String joined) {
+        return joined == null || joined.isEmpty() ? List.of() : Arrays.asList(joined.split(TERM_SEPARATOR));
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
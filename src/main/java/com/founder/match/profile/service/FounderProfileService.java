@@ -1,26 +1,50 @@
 package com.founder.match.profile.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.founder.match.common.bulk.BulkRow;
+import com.founder.match.common.bulk.BulkRowError;
+import com.founder.match.common.concurrent.StripedLocks;
+import com.founder.match.common.page.CursorPage;
+import com.founder.match.common.page.Cursors;
+import com.founder.match.common.term.TermDictionary;
+import com.founder.match.common.web.ETags;
+import com.founder.match.common.web.VersionConflictException;
+import com.founder.match.persistence.DurabilityScope;
 import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.dto.FounderProfileBulkRequest;
 import com.founder.match.profile.dto.FounderProfileRequest;
+import com.founder.match.profile.event.FounderProfileChangedEvent;
+import com.founder.match.profile.event.FounderProfilesImportedEvent;
 import com.founder.match.profile.repository.FounderProfileRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * FounderProfile 도메인 서비스.
+ * 변경 이벤트는 userId 별 잠금 안에서 저장 순서대로 발행해, 매칭 인덱스가 이전 버전으로 되돌아가지 않게 한다.
  */
 @Service
 @Slf4j
 public class FounderProfileService {
 
     private final FounderProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TermDictionary tags;
+    private final StripedLocks profileLocks = new StripedLocks(64);
 
-    public FounderProfileService(FounderProfileRepository profileRepository) {
+    public FounderProfileService(FounderProfileRepository profileRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 TermDictionary tags) {
         this.profileRepository = profileRepository;
+        this.eventPublisher = eventPublisher;
+        this.tags = tags;
     }
 
     public FounderProfile createProfile(Long userId, FounderProfileRequest request) {
@@ -31,6 +55,7 @@ public class FounderProfileService {
         });
 
         FounderProfile profile = FounderProfile.create(
+                tags,
                 userId,
                 request.getRole(),
                 request.getSkills(),
@@ -40,29 +65,88 @@ public class FounderProfileService {
         );
 
         FounderProfile saved = profileRepository.save(profile);
+        profileLocks.locked(userId, () -> {
+            if (isLatest(saved)) {
+                eventPublisher.publishEvent(FounderProfileChangedEvent.saved(saved));
+            }
+            return null;
+        });
         log.info("프로필 생성 완료: userId={}, profileId={}", saved.getUserId(), saved.getId());
         return saved;
     }
 
-    public FounderProfile updateProfile(Long userId, FounderProfileRequest request) {
-        log.debug("프로필 수정 요청: userId={}", userId);
-        FounderProfile profile = profileRepository.findByUserId(userId)
-                .orElseThrow(() -> {
-                    log.warn("프로필 수정 실패 - 존재하지 않음: userId={}", userId);
-                    return new IllegalArgumentException("프로필을 찾을 수 없습니다.");
-                });
-
-        profile.update(
-                request.getRole(),
-                request.getSkills(),
-                request.getInterests(),
-                request.getAvailability(),
-                request.getBio()
-        );
+    /**
+     * 검증을 마친 한 묶음의 프로필을 생성하고, 이미 프로필이 있거나 묶음 안에서 겹치는 사용자의 줄은 오류로 돌려준다.
+     * 저장은 saveAll 한 번으로, 변경 이벤트는 FounderProfilesImportedEvent 한 건으로 처리한다.
+     */
+    public List<BulkRowError> createProfiles(List<BulkRow<FounderProfileBulkRequest>> rows) {
+        List<BulkRowError> errors = new ArrayList<>();
+        List<FounderProfile> profiles = new ArrayList<>(rows.size());
+        Set<Long> userIds = new HashSet<>();
+        for (BulkRow<FounderProfileBulkRequest> row : rows) {
+            FounderProfileBulkRequest request = row.getValue();
+            if (!userIds.add(request.getUserId()) || profileRepository.findByUserId(request.getUserId()).isPresent()) {
+                errors.add(new BulkRowError(row.getLine(), "이미 프로필이 존재합니다."));
+                continue;
+            }
+            profiles.add(FounderProfile.create(
+                    tags,
+                    request.getUserId(),
+                    request.getRole(),
+                    request.getSkills(),
+                    request.getInterests(),
+                    request.getAvailability(),
+                    request.getBio()
+            ));
+        }
+
+        if (!profiles.isEmpty()) {
+            List<FounderProfile> saved = profileRepository.saveAll(profiles);
+            long[] savedUserIds = saved.stream().mapToLong(FounderProfile::getUserId).toArray();
+            profileLocks.lockedAll(savedUserIds, () ->
+                    eventPublisher.publishEvent(new FounderProfilesImportedEvent(
+                            saved.stream().filter(this::isLatest).toList())));
+            log.info("프로필 일괄 생성 완료: count={}, rejected={}", saved.size(), errors.size());
+        }
+        return errors;
+    }
 
-        profileRepository.save(profile);
-        log.info("프로필 수정 완료: userId={}, profileId={}", profile.getUserId(), profile.getId());
-        return profile;
+    /**
+     * @param expectedETag 클라이언트가 마지막으로 받은 ETag(If-Match). null 이면 충돌 시 최신 값에 다시 적용한다.
+     * @throws VersionConflictException 현재 ETag 가 expectedETag 와 다르거나, 교체 직전에 다른 수정이 끼어든 경우
+     */
+    public FounderProfile updateProfile(Long userId, FounderProfileRequest request, String expectedETag) {
+        log.debug("프로필 수정 요청: userId={}, expectedETag={}", userId, expectedETag);
+        // fsync 대기는 잠금을 푼 뒤에 해서 같은 stripe 의 다른 사용자 수정이 기다리지 않게 한다.
+        FounderProfile updated = DurabilityScope.run(() -> profileLocks.locked(userId, () -> {
+            // 읽은 값에서 새 인스턴스를 만들고, 그 사이 다른 수정이 없었을 때만 교체한다.
+            while (true) {
+                FounderProfile current = profileRepository.findByUserId(userId)
+                        .orElseThrow(() -> {
+                            log.warn("프로필 수정 실패 - 존재하지 않음: userId={}", userId);
+                            return new IllegalArgumentException("프로필을 찾을 수 없습니다.");
+                        });
+                if (!ETags.matches(expectedETag, current.getId(), current.getVersion())) {
+                    log.warn("프로필 수정 실패 - 버전 불일치: userId={}, current={}, expected={}",
+                            userId, current.getVersion(), expectedETag);
+                    throw new VersionConflictException("다른 곳에서 먼저 프로필을 수정했습니다. 다시 조회한 뒤 수정해 주세요.");
+                }
+                FounderProfile next = current.updated(
+                        request.getRole(),
+                        request.getSkills(),
+                        request.getInterests(),
+                        request.getAvailability(),
+                        request.getBio()
+                );
+                if (profileRepository.replace(current, next)) {
+                    eventPublisher.publishEvent(FounderProfileChangedEvent.saved(next));
+                    return next;
+                }
+                log.debug("프로필 수정 충돌 - 재시도: userId={}", userId);
+            }
+        }));
+        log.info("프로필 수정 완료: userId={}, profileId={}", updated.getUserId(), updated.getId());
+        return updated;
     }
 
     public FounderProfile getProfile(Long userId) {
@@ -71,14 +155,44 @@ public class FounderProfileService {
                 .orElseThrow(() -> new IllegalArgumentException("프로필을 찾을 수 없습니다."));
     }
 
+    /**
+     * 목록 응답 ETag 에 쓰는 저장소 변경 횟수.
+     */
+    public long modificationCount() {
+        return profileRepository.modificationCount();
+    }
+
     public List<FounderProfile> getAllProfiles() {
         log.debug("전체 프로필 조회");
         return profileRepository.findAll();
     }
 
+    /**
+     * userId 기준 keyset 페이지 조회.
+     */
+    public CursorPage<FounderProfile> getProfilePage(String cursor, int limit) {
+        log.debug("프로필 페이지 조회: cursor={}, limit={}", cursor, limit);
+        CursorPage.checkLimit(limit);
+        List<FounderProfile> fetched = profileRepository.findPage(Cursors.decode(cursor), limit + 1);
+        return CursorPage.of(fetched, limit, FounderProfile::getUserId);
+    }
+
     public void deleteProfile(Long userId) {
         log.debug("프로필 삭제 요청: userId={}", userId);
-        profileRepository.deleteByUserId(userId);
+        DurabilityScope.run(() -> profileLocks.locked(userId, () -> {
+            profileRepository.deleteByUserId(userId);
+            eventPublisher.publishEvent(FounderProfileChangedEvent.deleted(userId));
+            return null;
+        }));
+    }
+
+    /**
+     * 저장한 뒤 잠금을 잡기 전에 같은 사용자의 수정·삭제가 먼저 반영됐다면 그쪽이 이미 이벤트를 냈으므로 건너뛴다.
+     */
+    private boolean isLatest(FounderProfile saved) {
+        return profileRepository.findByUserId(saved.getUserId())
+                .filter(profile -> profile.getVersion() == saved.getVersion())
+                .isPresent();
     }
 }
 
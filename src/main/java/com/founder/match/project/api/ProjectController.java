@@ -1,9 +1,14 @@
 package com.founder.match.project.api;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,10 +16,21 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.founder.match.common.bulk.BulkFormat;
+import com.founder.match.common.bulk.BulkImportResult;
+import com.founder.match.common.bulk.BulkRow;
+import com.founder.match.common.bulk.BulkRowReader;
+import com.founder.match.common.page.CursorPage;
+import com.founder.match.common.web.ETags;
+import com.founder.match.common.web.JsonFragments;
+import com.founder.match.common.web.NdjsonStreamer;
 import com.founder.match.project.domain.Project;
 import com.founder.match.project.domain.ProjectDomain;
 import com.founder.match.project.domain.ProjectStage;
@@ -23,53 +39,152 @@ import com.founder.match.project.domain.WorkStyle;
 import com.founder.match.project.dto.ProjectRequest;
 import com.founder.match.project.dto.ProjectResponse;
 import com.founder.match.project.dto.ProjectUpdateRequest;
+import com.founder.match.project.repository.ProjectFacetCounts;
 import com.founder.match.project.service.ProjectService;
+import com.founder.match.project.service.ProjectSort;
 
 import jakarta.validation.Valid;
 
 /**
  * Project REST API.
+ * 조회 응답에는 ETag 를 붙이고, If-None-Match 가 현재 값과 같으면 조회/직렬화 없이 304 로 응답한다.
+ * 조회 응답 본문은 ProjectJsonCache 의 직렬화 결과를 이어 붙여 만든다.
+ * 목록/페이지 조회는 sort(createdAt, updatedAt, relevance)로 정렬할 수 있고, 없으면 id 오름차순이다.
  */
 @RestController
 @RequestMapping("/api/projects")
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final ProjectJsonCache jsonCache;
+    private final BulkRowReader bulkRowReader;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService,
+                             NdjsonStreamer ndjsonStreamer,
+                             ProjectJsonCache jsonCache,
+                             BulkRowReader bulkRowReader) {
         this.projectService = projectService;
+        this.ndjsonStreamer = ndjsonStreamer;
+        this.jsonCache = jsonCache;
+        this.bulkRowReader = bulkRowReader;
     }
 
     @PostMapping
     public ResponseEntity<ProjectResponse> createProject(@Valid @RequestBody ProjectRequest request) {
         Project created = projectService.create(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(ProjectResponse.from(created));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.of(created.getId(), created.getVersion()))
+                .body(ProjectResponse.from(created));
     }
 
+    /**
+     * 한 줄에 ProjectRequest 하나씩 담은 NDJSON 으로 일괄 생성한다. 잘못된 줄은 건너뛰고 줄 번호와 함께 보고한다.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResult> importProjectsNdjson(InputStream body) throws IOException {
+        return importProjects(body, BulkFormat.NDJSON);
+    }
+
+    /**
+     * ProjectRequest 필드 이름을 헤더로 쓰는 CSV 로 일괄 생성한다.
+     */
+    @PostMapping(value = "/bulk", consumes = BulkRowReader.TEXT_CSV_VALUE)
+    public ResponseEntity<BulkImportResult> importProjectsCsv(InputStream body) throws IOException {
+        return importProjects(body, BulkFormat.CSV);
+    }
+
+    /**
+     * If-Match 에 GET 으로 받은 ETag 를 보내면 그 사이 다른 수정이 있었을 때 412 로 거절한다.
+     */
     @PatchMapping("/{projectId}")
     public ResponseEntity<ProjectResponse> updateProject(@PathVariable Long projectId,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                          @Valid @RequestBody ProjectUpdateRequest request) {
-        Project updated = projectService.update(projectId, request);
-        return ResponseEntity.ok(ProjectResponse.from(updated));
+        Project updated = projectService.update(projectId, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updated.getId(), updated.getVersion()))
+                .body(ProjectResponse.from(updated));
     }
 
     @GetMapping("/{projectId}")
-    public ResponseEntity<ProjectResponse> getProject(@PathVariable Long projectId) {
+    public ResponseEntity<byte[]> getProject(@PathVariable Long projectId, WebRequest webRequest) {
         Project project = projectService.get(projectId);
-        return ResponseEntity.ok(ProjectResponse.from(project));
+        String eTag = ETags.of(project.getId(), project.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return JsonFragments.single(eTag, jsonCache.toJson(project));
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> getProjects(@RequestParam(required = false) ProjectStage stage,
+    public ResponseEntity<StreamingResponseBody> getProjects(@RequestParam(required = false) ProjectStage stage,
                                                              @RequestParam(required = false) ProjectDomain domain,
                                                              @RequestParam(required = false) WorkStyle workStyle,
                                                              @RequestParam(required = false) RewardType rewardType,
-                                                             @RequestParam(required = false) String keyword) {
-        List<ProjectResponse> responses = projectService.getProjects(stage, domain, workStyle, rewardType, keyword)
+                                                             @RequestParam(required = false) String keyword,
+                                                             @RequestParam(required = false) String sort,
+                                                             WebRequest webRequest) {
+        String eTag = ETags.ofCollection("projects", projectService.modificationCount());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        List<byte[]> items = projectService
+                .getProjects(stage, domain, workStyle, rewardType, keyword, ProjectSort.from(sort))
                 .stream()
-                .map(ProjectResponse::from)
+                .map(jsonCache::toJson)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+        return JsonFragments.array(eTag, items);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<StreamingResponseBody> getProjectPage(@RequestParam(required = false) ProjectStage stage,
+                                                                @RequestParam(required = false) ProjectDomain domain,
+                                                                @RequestParam(required = false) WorkStyle workStyle,
+                                                                @RequestParam(required = false) RewardType rewardType,
+                                                                @RequestParam(required = false) String keyword,
+                                                                @RequestParam(required = false) String sort,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam int limit,
+                                                                WebRequest webRequest) {
+        String eTag = ETags.ofCollection("projects", projectService.modificationCount());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        CursorPage<byte[]> page = projectService
+                .getProjectPage(stage, domain, workStyle, rewardType, keyword, ProjectSort.from(sort), cursor, limit)
+                .map(jsonCache::toJson);
+        return JsonFragments.page(eTag, page);
+    }
+
+    /**
+     * 필터 UI 용 facet 값별 건수. 각 차원은 그 차원을 뺀 나머지 필터와 키워드 조건으로 센다.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ProjectFacetCounts> getFacetCounts(@RequestParam(required = false) ProjectStage stage,
+                                                             @RequestParam(required = false) ProjectDomain domain,
+                                                             @RequestParam(required = false) WorkStyle workStyle,
+                                                             @RequestParam(required = false) RewardType rewardType,
+                                                             @RequestParam(required = false) String keyword,
+                                                             WebRequest webRequest) {
+        String eTag = ETags.ofCollection("project-facets", projectService.modificationCount());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(projectService.getFacetCounts(stage, domain, workStyle, rewardType, keyword));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamProjects(@RequestParam(required = false) ProjectStage stage,
+                                                                @RequestParam(required = false) ProjectDomain domain,
+                                                                @RequestParam(required = false) WorkStyle workStyle,
+                                                                @RequestParam(required = false) RewardType rewardType,
+                                                                @RequestParam(required = false) String keyword) {
+        return ndjsonStreamer.streamSerialized(cursor -> projectService
+                .getProjectPage(stage, domain, workStyle, rewardType, keyword, ProjectSort.ID, cursor, NdjsonStreamer.CHUNK_SIZE)
+                .map(jsonCache::toJson));
     }
 
     @DeleteMapping("/{projectId}")
@@ -77,4 +192,12 @@ public class ProjectController {
         projectService.delete(projectId);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<BulkImportResult> importProjects(InputStream body, BulkFormat format) throws IOException {
+        BulkImportResult result = bulkRowReader.read(body, format, ProjectRequest.class, Set.of(), rows -> {
+            projectService.createAll(rows.stream().map(BulkRow::getValue).collect(Collectors.toList()));
+            return List.of();
+        });
+        return ResponseEntity.ok(result);
+    }
 }
@@ -0,0 +1,71 @@
+package com.founder.match.project.api;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.dto.ProjectResponse;
+import com.founder.match.project.event.ProjectChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 프로젝트별 ProjectResponse JSON 직렬화 결과 캐시.
+ * 조회한 Project 의 version 이 캐시된 값과 같으면 저장된 바이트를 그대로 쓰고, 다르면 다시 직렬화해 바꿔 넣는다.
+ * 수정/삭제 이벤트를 받으면 해당 id 를 비운다. 적중률은 cache_* 지표(project-json)로 내보낸다.
+ */
+@Component
+public class ProjectJsonCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedJson> cache;
+
+    public ProjectJsonCache(ObjectMapper objectMapper,
+                            @Value("${project.json-cache.max-bytes:33554432}") long maxBytes,
+                            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, CachedJson cached) -> ENTRY_OVERHEAD_BYTES + cached.json.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project-json");
+    }
+
+    /**
+     * ProjectResponse.from(project) 를 직렬화한 JSON. 반환한 배열은 수정하면 안 된다.
+     */
+    public byte[] toJson(Project project) {
+        CachedJson cached = cache.getIfPresent(project.getId());
+        if (cached != null && cached.version == project.getVersion()) {
+            return cached.json;
+        }
+        byte[] json = objectMapper.writeValueAsBytes(ProjectResponse.from(project));
+        cache.put(project.getId(), new CachedJson(project.getVersion(), json));
+        return json;
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        cache.invalidate(event.getProjectId());
+    }
+
+    private static final class CachedJson {
+
+        private final long version;
+        private final byte[] json;
+
+        private CachedJson(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
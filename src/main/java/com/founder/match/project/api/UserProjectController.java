@@ -0,0 +1,45 @@
+package com.founder.match.project.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.founder.match.common.web.ETags;
+import com.founder.match.common.web.JsonFragments;
+import com.founder.match.project.service.ProjectService;
+
+/**
+ * 사용자별 프로젝트 REST API.
+ */
+@RestController
+@RequestMapping("/api")
+public class UserProjectController {
+
+    private final ProjectService projectService;
+    private final ProjectJsonCache jsonCache;
+
+    public UserProjectController(ProjectService projectService, ProjectJsonCache jsonCache) {
+        this.projectService = projectService;
+        this.jsonCache = jsonCache;
+    }
+
+    @GetMapping("/users/{userId}/projects")
+    public ResponseEntity<StreamingResponseBody> getUserProjects(@PathVariable Long userId, WebRequest webRequest) {
+        String eTag = ETags.ofCollection("projects", projectService.modificationCount());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        List<byte[]> items = projectService.getProjectsByOwner(userId)
+                .stream()
+                .map(jsonCache::toJson)
+                .collect(Collectors.toList());
+        return JsonFragments.array(eTag, items);
+    }
+}
@@ -2,34 +2,36 @@ package com.founder.match.project.domain;
 
 import java.time.LocalDateTime;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.With;
 
 /**
  * Project(Startup) 도메인 모델.
+ * 불변 객체이며, 수정은 새 인스턴스를 만들어 저장소에 원자적으로 교체하는 방식으로 한다.
+ * 따라서 조회한 인스턴스는 잠금 없이 여러 스레드에서 읽어도 안전하다.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+@Value
+@Builder(toBuilder = true)
 public class Project {
 
-    private Long id;
-    private Long ownerId;
-    private String name;
-    private String oneLineIntro;
-    private String description;
-    private ProjectStage stage;
-    private ProjectDomain domain;
-    private WorkStyle workStyle;
-    private RewardType rewardType;
-    private String expectedDuration;
+    @With
+    Long id;
+    Long ownerId;
+    String name;
+    String oneLineIntro;
+    String description;
+    ProjectStage stage;
+    ProjectDomain domain;
+    WorkStyle workStyle;
+    RewardType rewardType;
+    String expectedDuration;
     @Builder.Default
-    private LocalDateTime createdAt = LocalDateTime.now();
+    LocalDateTime createdAt = LocalDateTime.now();
     @Builder.Default
-    private LocalDateTime updatedAt = LocalDateTime.now();
+    LocalDateTime updatedAt = LocalDateTime.now();
+    /** 수정될 때마다 1씩 증가하는 낙관적 동시성 제어용 버전. */
+    long version;
 
     public static Project create(Long ownerId,
                                  String name,
@@ -56,22 +58,28 @@ public class Project {
                 .build();
     }
 
-    public void update(String name,
-                       String oneLineIntro,
-                       String description,
-                       ProjectStage stage,
-                       ProjectDomain domain,
-                       WorkStyle workStyle,
-                       RewardType rewardType,
-                       String expectedDuration) {
-        this.name = name;
-        this.oneLineIntro = oneLineIntro;
-        this.description = description;
-        this.stage = stage;
-        this.domain = domain;
-        this.workStyle = workStyle;
-        this.rewardType = rewardType;
-        this.expectedDuration = expectedDuration;
-        this.updatedAt = LocalDateTime.now();
+    /**
+     * 수정 내용을 반영한 새 인스턴스를 돌려준다. 이 인스턴스는 바뀌지 않는다.
+     */
+    public Project updated(String name,
+                           String oneLineIntro,
+                           String description,
+                           ProjectStage stage,
+                           ProjectDomain domain,
+                           WorkStyle workStyle,
+                           RewardType rewardType,
+                           String expectedDuration) {
+        return toBuilder()
+                .name(name)
+                .oneLineIntro(oneLineIntro)
+                .description(description)
+                .stage(stage)
+                .domain(domain)
+                .workStyle(workStyle)
+                .rewardType(rewardType)
+                .expectedDuration(expectedDuration)
+                .updatedAt(LocalDateTime.now())
+                .version(version + 1)
+                .build();
     }
 }
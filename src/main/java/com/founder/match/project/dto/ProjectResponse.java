@@ -29,6 +29,7 @@ public class ProjectResponse {
     private final String expectedDuration;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final long version;
 
     public static ProjectResponse from(Project project) {
         return ProjectResponse.builder()
@@ -44,6 +45,7 @@ public class ProjectResponse {
                 .expectedDuration(project.getExpectedDuration())
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
+                .version(project.getVersion())
                 .build();
     }
 }
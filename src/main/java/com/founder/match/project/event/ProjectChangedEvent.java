@@ -0,0 +1,35 @@
+package com.founder.match.project.event;
+
+import com.founder.match.project.domain.Project;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Project 생성/수정/삭제 이후 발행되는 애플리케이션 이벤트.
+ * 삭제된 경우 project 는 null 이다. 수정인 경우 previous 에 수정 전 값을 담고, 생성/삭제는 null 이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProjectChangedEvent {
+
+    private final Long projectId;
+    private final Project project;
+    private final Project previous;
+
+    public static ProjectChangedEvent saved(Project project) {
+        return new ProjectChangedEvent(project.getId(), project, null);
+    }
+
+    public static ProjectChangedEvent updated(Project previous, Project project) {
+        return new ProjectChangedEvent(project.getId(), project, previous);
+    }
+
+    public static ProjectChangedEvent deleted(Long projectId) {
+        return new ProjectChangedEvent(projectId, null, null);
+    }
+
+    public boolean isDeleted() {
+        return project == null;
+    }
+}
@@ -0,0 +1,155 @@
+package com.founder.match.project.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.founder.match.common.metrics.WithoutMethodMetrics;
+import com.founder.match.project.domain.Project;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * JDBC 저장소 앞단의 id 단위 읽기 캐시 (jdbc 프로파일).
+ * W-TinyLFU(Caffeine) 로 추정 메모리 사용량 한도 안에서 자주 읽히는 프로젝트를 보관하고,
+ * 같은 id 를 동시에 놓친 요청은 한 번의 조회 결과를 함께 기다린다.
+ * 저장/삭제 시에는 해당 id 를 무효화해 다음 조회 때 저장소에서 다시 읽는다.
+ * 적중률은 cache_* 지표(projects-by-id)로 내보낸다.
+ * 미적중 시간은 뒤의 JDBC 저장소 메서드 지표에 잡히므로 이 빈에는 메서드 계측 프록시를 씌우지 않는다.
+ */
+@Primary
+@Repository
+@WithoutMethodMetrics
+@Profile("jdbc")
+public class CachingProjectRepository implements ProjectRepository {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final ProjectRepository delegate;
+    private final Cache<Long, Project> cache;
+
+    public CachingProjectRepository(JdbcProjectRepository delegate,
+                                    @Value("${repository.cache.max-bytes:67108864}") long maxBytes,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, Project project) -> weigh(project))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "projects-by-id");
+    }
+
+    @Override
+    public Project save(Project project) {
+        Project saved = delegate.save(project);
+        cache.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Project> saveAll(List<Project> projects) {
+        List<Project> saved = delegate.saveAll(projects);
+        saved.forEach(project -> cache.invalidate(project.getId()));
+        return saved;
+    }
+
+    @Override
+    public boolean replace(Project expected, Project updated) {
+        boolean replaced = delegate.replace(expected, updated);
+        cache.invalidate(expected.getId());
+        return replaced;
+    }
+
+    @Override
+    public Optional<Project> findById(Long projectId) {
+        // 값이 없으면 캐시에 넣지 않으므로 존재하지 않는 id 는 매번 저장소를 조회한다.
+        return Optional.ofNullable(cache.get(projectId, id -> delegate.findById(id).orElse(null)));
+    }
+
+    /**
+     * 캐시에 없는 id 만 모아 저장소에 한 번에 조회한다.
+     */
+    @Override
+    public List<Project> findAllById(int[] ids) {
+        List<Long> keys = Arrays.stream(ids).mapToObj(id -> (long) id).collect(Collectors.toList());
+        Map<Long, Project> found = cache.getAll(keys, missing -> delegate.findAllById(
+                        missing.stream().mapToInt(Long::intValue).sorted().toArray()).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity())));
+        List<Project> result = new ArrayList<>(found.values());
+        result.sort(Comparator.comparing(Project::getId));
+        return result;
+    }
+
+    @Override
+    public List<Project> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Project> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public List<Project> findByOwnerId(Long ownerId) {
+        return delegate.findByOwnerId(ownerId);
+    }
+
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter) {
+        return delegate.findByFacets(filter);
+    }
+
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter, Long afterId, int limit) {
+        return delegate.findByFacets(filter, afterId, limit);
+    }
+
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter, ProjectTimeOrder order, long[] after, int limit) {
+        return delegate.findByFacets(filter, order, after, limit);
+    }
+
+    @Override
+    public ProjectFacetCounts countFacets(ProjectFacetFilter filter, int[] restrictTo) {
+        return delegate.countFacets(filter, restrictTo);
+    }
+
+    @Override
+    public void deleteById(Long projectId) {
+        delegate.deleteById(projectId);
+        cache.invalidate(projectId);
+    }
+
+    @Override
+    public long modificationCount() {
+        return delegate.modificationCount();
+    }
+
+    private static int weigh(Project project) {
+        return ENTRY_OVERHEAD_BYTES
+                + 2 * (length(project.getName())
+                + length(project.getOneLineIntro())
+                + length(project.getDescription())
+                + length(project.getExpectedDuration()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
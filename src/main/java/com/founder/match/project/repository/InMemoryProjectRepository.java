@@ -1,33 +1,119 @@
 package com.founder.match.project.repository;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.common.metrics.ScanCounter;
+import com.founder.match.common.metrics.WithoutMethodMetrics;
+import com.founder.match.persistence.RepositoryJournal;
 import com.founder.match.project.domain.Project;
 
 /**
  * Project용 인메모리 저장소.
+ * facet 비트맵 인덱스와 ownerId -> 프로젝트 id 보조 인덱스를 함께 유지한다.
+ * 변경은 journal 과 변경 로그에 함께 기록하고, 생성 시 journal 의 스냅샷과 로그로 이전 상태를 복원한다.
  */
 @Repository
+@WithoutMethodMetrics
+@Profile("!jdbc")
 public class InMemoryProjectRepository implements ProjectRepository {
 
     private final ConcurrentMap<Long, Project> storage = new ConcurrentHashMap<>();
     private final AtomicLong sequence = new AtomicLong(0L);
+    private final AtomicLong modifications = new AtomicLong(0L);
+    private final ProjectFacetIndex facetIndex = new ProjectFacetIndex();
+    private final ConcurrentMap<Long, ConcurrentSkipListSet<Long>> ownerIndex = new ConcurrentHashMap<>();
+    private final RepositoryJournal<Project> journal;
+    private final ChangeEventLog changeLog;
+
+    public InMemoryProjectRepository(RepositoryJournal<Project> journal, ChangeEventLog changeLog) {
+        this.journal = journal;
+        this.changeLog = changeLog;
+        journal.open(new RepositoryJournal.Replayer<>() {
+            @Override
+            public void onSave(Project project) {
+                index(storage.put(project.getId(), project), project);
+                sequence.accumulateAndGet(project.getId(), Math::max);
+            }
+
+            @Override
+            public void onDelete(long projectId) {
+                unindexOwner(storage.remove(projectId));
+                facetIndex.remove(projectId);
+            }
+        }, storage::values);
+    }
 
     @Override
     public Project save(Project project) {
-        if (project.getId() == null) {
-            long id = sequence.incrementAndGet();
-            project.setId(id);
+        Project toSave = project.getId() == null ? project.withId(sequence.incrementAndGet()) : project;
+        // 같은 id 에 대한 기록/인덱스 갱신 순서가 저장 순서와 일치하도록 compute 안에서 처리한다.
+        journal.write(() -> storage.compute(toSave.getId(), (id, previous) -> {
+            journal.appendSave(toSave);
+            changeLog.saved(ChangeEntityType.PROJECT, id, toSave);
+            index(previous, toSave);
+            return toSave;
+        }));
+        modifications.incrementAndGet();
+        return toSave;
+    }
+
+    /**
+     * 새 id 는 묶음 크기만큼 sequence 에서 한 번에 받아 차례로 붙이고, journal 게이트도 묶음 전체에 한 번만 잡는다.
+     */
+    @Override
+    public List<Project> saveAll(List<Project> projects) {
+        long newCount = projects.stream().filter(project -> project.getId() == null).count();
+        long nextId = sequence.getAndAdd(newCount) + 1;
+        List<Project> toSave = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            toSave.add(project.getId() == null ? project.withId(nextId++) : project);
         }
-        storage.put(project.getId(), project);
-        return project;
+        journal.write(() -> {
+            for (Project project : toSave) {
+                storage.compute(project.getId(), (id, previous) -> {
+                    journal.appendSave(project);
+                    changeLog.saved(ChangeEntityType.PROJECT, id, project);
+                    index(previous, project);
+                    return project;
+                });
+            }
+        });
+        modifications.incrementAndGet();
+        return toSave;
+    }
+
+    @Override
+    public boolean replace(Project expected, Project updated) {
+        boolean[] replaced = new boolean[1];
+        journal.write(() -> storage.computeIfPresent(expected.getId(), (id, current) -> {
+            replaced[0] = current.getVersion() == expected.getVersion();
+            if (!replaced[0]) {
+                return current;
+            }
+            journal.appendSave(updated);
+            changeLog.saved(ChangeEntityType.PROJECT, id, updated);
+            index(current, updated);
+            return updated;
+        }));
+        if (replaced[0]) {
+            modifications.incrementAndGet();
+        }
+        return replaced[0];
     }
 
     @Override
@@ -35,13 +121,147 @@ public class InMemoryProjectRepository implements ProjectRepository {
         return Optional.ofNullable(storage.get(projectId));
     }
 
+    @Override
+    public List<Project> findAllById(int[] ids) {
+        List<Project> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Project project = storage.get((long) id);
+            if (project != null) {
+                result.add(project);
+            }
+        }
+        return result;
+    }
+
     @Override
     public List<Project> findAll() {
         return new ArrayList<>(storage.values());
     }
 
+    @Override
+    public void forEach(Consumer<? super Project> action) {
+        storage.values().forEach(action);
+    }
+
+    @Override
+    public List<Project> findByOwnerId(Long ownerId) {
+        ConcurrentSkipListSet<Long> ids = ownerIndex.get(ownerId);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<Project> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Project project = storage.get(id);
+            if (project != null) {
+                result.add(project);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter) {
+        return findByFacets(filter, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter, Long afterId, int limit) {
+        // 프로젝트 id 는 int 범위이므로 그 끝을 지난 커서 뒤에는 항목이 없다.
+        if (afterId != null && afterId >= Integer.MAX_VALUE) {
+            return new ArrayList<>();
+        }
+        BitSet ids = facetIndex.select(filter);
+        int from = afterId == null ? 0 : (int) (afterId + 1);
+        List<Project> result = new ArrayList<>(Math.min(limit, ids.cardinality()));
+        int scanned = 0;
+        for (int id = ids.nextSetBit(from); id >= 0 && result.size() < limit; id = ids.nextSetBit(id + 1)) {
+            scanned++;
+            Project project = storage.get((long) id);
+            // 인덱스 갱신과 저장 사이의 경합으로 값이 어긋난 경우를 걸러낸다.
+            if (project != null && filter.matches(project)) {
+                result.add(project);
+            }
+        }
+        ScanCounter.add(scanned);
+        return result;
+    }
+
+    /**
+     * 정렬 인덱스가 없으므로 필터에 맞는 항목을 한 번 훑으며 상위 limit 건만 힙에 남긴다.
+     */
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter, ProjectTimeOrder order, long[] after, int limit) {
+        BitSet ids = facetIndex.select(filter);
+        ProjectTopK topK = new ProjectTopK(limit, after);
+        int scanned = 0;
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            scanned++;
+            Project project = storage.get((long) id);
+            if (project != null && filter.matches(project)) {
+                topK.offer(project, order.keyOf(project));
+            }
+        }
+        ScanCounter.add(scanned);
+        return topK.toSortedList().stream()
+                .map(ProjectTopK.Ranked::getProject)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ProjectFacetCounts countFacets(ProjectFacetFilter filter, int[] restrictTo) {
+        BitSet ids = null;
+        if (restrictTo != null) {
+            ids = new BitSet();
+            for (int id : restrictTo) {
+                ids.set(id);
+            }
+        }
+        return facetIndex.count(filter, ids);
+    }
+
     @Override
     public void deleteById(Long projectId) {
-        storage.remove(projectId);
+        journal.write(() -> storage.computeIfPresent(projectId, (id, previous) -> {
+            journal.appendDelete(id);
+            changeLog.deleted(ChangeEntityType.PROJECT, id);
+            unindexOwner(previous);
+            facetIndex.remove(id);
+            return null;
+        }));
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public long modificationCount() {
+        return modifications.get();
+    }
+
+    private void index(Project previous, Project project) {
+        indexOwner(previous, project);
+        facetIndex.add(project);
+    }
+
+    private void indexOwner(Project previous, Project project) {
+        if (previous != null && !Objects.equals(previous.getOwnerId(), project.getOwnerId())) {
+            unindexOwner(previous);
+        }
+        if (project.getOwnerId() != null) {
+            // 빈 집합 제거(unindexOwner)와 겹치지 않도록 추가도 compute 안에서 한다.
+            ownerIndex.compute(project.getOwnerId(), (ownerId, ids) -> {
+                ConcurrentSkipListSet<Long> target = ids == null ? new ConcurrentSkipListSet<>() : ids;
+                target.add(project.getId());
+                return target;
+            });
+        }
+    }
+
+    private void unindexOwner(Project project) {
+        if (project == null || project.getOwnerId() == null) {
+            return;
+        }
+        ownerIndex.computeIfPresent(project.getOwnerId(), (ownerId, ids) -> {
+            ids.remove(project.getId());
+            return ids.isEmpty() ? null : ids;
+        });
     }
 }
@@ -0,0 +1,418 @@
+package com.founder.match.project.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+
+/**
+ * JDBC 기반 ProjectRepository (jdbc 프로파일).
+ * facet 필터는 (컬럼, id) 인덱스를 타는 SQL 로 처리하고, 최근순 정렬은 (시각 DESC, id) 인덱스 순서대로 LIMIT 건만 읽으며, 일괄 저장은 하나의 PreparedStatement 로 batch 실행한다.
+ * facet 건수는 네 컬럼 값 조합별 GROUP BY 결과를 읽어 Java 에서 차원별로 더한다.
+ * 변경 횟수와 변경 로그는 이 프로세스를 거친 쓰기만 센다.
+ * 기존 행을 바꾸는 쓰기는 version 컬럼을 올리고 그 값을 변경 로그에 함께 남긴다. 잠금 없이 기록하므로 같은 id 의 기록 순서는
+ * 반영 순서와 다를 수 있지만, version 이 반영 순서를 나타낸다. replace 는 updated 의 version 을, 그 밖의 수정은 저장된 version + 1 을 쓴다.
+ */
+@Repository
+@Profile("jdbc")
+public class JdbcProjectRepository implements ProjectRepository {
+
+    private static final String COLUMNS = "id, owner_id, name, one_line_intro, description, stage, project_domain, "
+            + "work_style, reward_type, expected_duration, created_at, updated_at, version";
+    private static final String INSERT_SQL = "INSERT INTO projects (owner_id, name, one_line_intro, description, "
+            + "stage, project_domain, work_style, reward_type, expected_duration, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_COLUMNS = "UPDATE projects SET owner_id = ?, name = ?, one_line_intro = ?, "
+            + "description = ?, stage = ?, project_domain = ?, work_style = ?, reward_type = ?, "
+            + "expected_duration = ?, created_at = ?, updated_at = ?, ";
+    private static final String UPDATE_SQL = UPDATE_COLUMNS + "version = version + 1 WHERE id = ?";
+    private static final String REPLACE_SQL = UPDATE_COLUMNS + "version = ? WHERE id = ? AND version = ?";
+    private static final String VERSION_SQL = "SELECT version FROM projects WHERE id = ?";
+
+    private static final String FACET_COUNT_SQL =
+            "SELECT stage, project_domain, work_style, reward_type, COUNT(*) FROM projects";
+    private static final String FACET_GROUP_BY = " GROUP BY stage, project_domain, work_style, reward_type";
+
+    private static final String[] GENERATED_KEYS = {"id"};
+    private static final int FETCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private static final RowMapper<Project> ROW_MAPPER = JdbcProjectRepository::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final AtomicLong modifications = new AtomicLong(0L);
+    private final ChangeEventLog changeLog;
+
+    public JdbcProjectRepository(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${repository.jdbc.batch-size:500}") int batchSize,
+                                 ChangeEventLog changeLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public Project save(Project project) {
+        if (project.getId() == null) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_SQL, GENERATED_KEYS);
+                bindColumns(ps, project);
+                ps.setLong(12, project.getVersion());
+                return ps;
+            }, keyHolder);
+            Project saved = project.withId(keyHolder.getKeyAs(Long.class));
+            modifications.incrementAndGet();
+            changeLog.saved(ChangeEntityType.PROJECT, saved.getId(), saved.getVersion(), saved);
+            return saved;
+        }
+        // 같은 트랜잭션 안에서 읽어야 올린 version 이 다른 쓰기와 섞이지 않는다.
+        Long version = transactionTemplate.execute(status -> {
+            int updatedRows = jdbcTemplate.update(UPDATE_SQL, ps -> {
+                bindColumns(ps, project);
+                ps.setLong(12, project.getId());
+            });
+            return updatedRows == 0 ? null : jdbcTemplate.queryForObject(VERSION_SQL, Long.class, project.getId());
+        });
+        modifications.incrementAndGet();
+        if (version == null) {
+            return project;
+        }
+        Project saved = project.toBuilder().version(version).build();
+        changeLog.saved(ChangeEntityType.PROJECT, saved.getId(), version, saved);
+        return saved;
+    }
+
+    @Override
+    public List<Project> saveAll(List<Project> projects) {
+        List<Project> saved = new ArrayList<>(projects);
+        List<Integer> inserts = new ArrayList<>();
+        List<Integer> updates = new ArrayList<>();
+        for (int i = 0; i < projects.size(); i++) {
+            (projects.get(i).getId() == null ? inserts : updates).add(i);
+        }
+
+        for (int from = 0; from < inserts.size(); from += batchSize) {
+            List<Integer> chunk = inserts.subList(from, Math.min(from + batchSize, inserts.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Project project = projects.get(chunk.get(i));
+                            bindColumns(ps, project);
+                            ps.setLong(12, project.getVersion());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    }, keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = chunk.get(i);
+                Project inserted = projects.get(index).withId(((Number) keys.get(i).get("id")).longValue());
+                saved.set(index, inserted);
+                changeLog.saved(ChangeEntityType.PROJECT, inserted.getId(), inserted.getVersion(), inserted);
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            List<Project> updated = updates.stream().map(projects::get).toList();
+            Map<Long, Long> versions = transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updated, batchSize, (ps, project) -> {
+                    bindColumns(ps, project);
+                    ps.setLong(12, project.getId());
+                });
+                return currentVersions(updated);
+            });
+            // 같은 id 가 여러 번 있으면 뒤의 것이 마지막 version 을 갖고, 앞의 것은 하나씩 작은 version 을 갖는다.
+            Project[] versioned = new Project[updated.size()];
+            for (int i = updated.size() - 1; i >= 0; i--) {
+                Long version = versions.get(updated.get(i).getId());
+                if (version != null) {
+                    versioned[i] = updated.get(i).toBuilder().version(version).build();
+                    versions.put(versioned[i].getId(), version - 1);
+                }
+            }
+            for (int i = 0; i < versioned.length; i++) {
+                if (versioned[i] != null) {
+                    saved.set(updates.get(i), versioned[i]);
+                    changeLog.saved(ChangeEntityType.PROJECT, versioned[i].getId(), versioned[i].getVersion(), versioned[i]);
+                }
+            }
+        }
+        modifications.incrementAndGet();
+        return saved;
+    }
+
+    /**
+     * expected 의 version 이 그대로일 때만 UPDATE 한다.
+     */
+    @Override
+    public boolean replace(Project expected, Project updated) {
+        int updatedRows = jdbcTemplate.update(REPLACE_SQL, ps -> {
+            bindColumns(ps, updated);
+            ps.setLong(12, updated.getVersion());
+            ps.setLong(13, expected.getId());
+            ps.setLong(14, expected.getVersion());
+        });
+        if (updatedRows == 0) {
+            return false;
+        }
+        modifications.incrementAndGet();
+        changeLog.saved(ChangeEntityType.PROJECT, updated.getId(), updated.getVersion(), updated);
+        return true;
+    }
+
+    @Override
+    public Optional<Project> findById(Long projectId) {
+        List<Project> found = jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM projects WHERE id = ?", ROW_MAPPER, projectId);
+        return found.stream().findFirst();
+    }
+
+    /**
+     * IN_CLAUSE_SIZE 개씩 나눠 id IN (...) 으로 조회한다.
+     */
+    @Override
+    public List<Project> findAllById(int[] ids) {
+        List<Project> result = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += IN_CLAUSE_SIZE) {
+            int to = Math.min(ids.length, from + IN_CLAUSE_SIZE);
+            String placeholders = String.join(", ", Collections.nCopies(to - from, "?"));
+            result.addAll(jdbcTemplate.query("SELECT " + COLUMNS + " FROM projects WHERE id IN (" + placeholders + ") ORDER BY id",
+                    ROW_MAPPER, Arrays.stream(ids, from, to).boxed().toArray()));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Project> findAll() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM projects ORDER BY id", ROW_MAPPER);
+    }
+
+    /**
+     * 결과를 FETCH_SIZE 행씩 가져오며 한 행씩 넘긴다.
+     */
+    @Override
+    public void forEach(Consumer<? super Project> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement("SELECT " + COLUMNS + " FROM projects ORDER BY id");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(mapRow(rs, 0)));
+    }
+
+    @Override
+    public List<Project> findByOwnerId(Long ownerId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM projects WHERE owner_id = ? ORDER BY id",
+                ROW_MAPPER, ownerId);
+    }
+
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter) {
+        return findByFacets(filter, null, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM projects WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        appendCondition(sql, args, "stage", filter.getStage());
+        appendCondition(sql, args, "project_domain", filter.getDomain());
+        appendCondition(sql, args, "work_style", filter.getWorkStyle());
+        appendCondition(sql, args, "reward_type", filter.getRewardType());
+        if (afterId != null) {
+            sql.append(" AND id > ?");
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY id");
+        if (limit < Integer.MAX_VALUE) {
+            sql.append(" LIMIT ?");
+            args.add(limit);
+        }
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * (시각, id) keyset 조건과 ORDER BY ... LIMIT 을 그대로 SQL 로 내려, 인덱스 순서대로 필요한 행만 읽는다.
+     * 시각이 NULL 인 행은 가장 작은 값으로 보아 맨 뒤에 둔다.
+     */
+    @Override
+    public List<Project> findByFacets(ProjectFacetFilter filter, ProjectTimeOrder order, long[] after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM projects WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        appendCondition(sql, args, "stage", filter.getStage());
+        appendCondition(sql, args, "project_domain", filter.getDomain());
+        appendCondition(sql, args, "work_style", filter.getWorkStyle());
+        appendCondition(sql, args, "reward_type", filter.getRewardType());
+        String column = order.column();
+        if (after != null) {
+            LocalDateTime afterTime = ProjectTimeOrder.timeOf(after[0]);
+            if (afterTime == null) {
+                sql.append(" AND ").append(column).append(" IS NULL AND id > ?");
+                args.add(after[1]);
+            } else {
+                sql.append(" AND (").append(column).append(" < ? OR (").append(column).append(" = ? AND id > ?) OR ")
+                        .append(column).append(" IS NULL)");
+                args.add(timestamp(afterTime));
+                args.add(timestamp(afterTime));
+                args.add(after[1]);
+            }
+        }
+        sql.append(" ORDER BY ").append(column).append(" DESC NULLS LAST, id");
+        if (limit < Integer.MAX_VALUE) {
+            sql.append(" LIMIT ?");
+            args.add(limit);
+        }
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 값 조합은 최대 enum 크기의 곱만큼이라 결과 행이 적다. 키워드로 제한하면 id 를 IN 절 묶음으로 나눠 같은 집계를 반복한다.
+     */
+    @Override
+    public ProjectFacetCounts countFacets(ProjectFacetFilter filter, int[] restrictTo) {
+        ProjectFacetCounts.Tally tally = new ProjectFacetCounts.Tally(filter);
+        RowCallbackHandler handler = rs -> tally.add(
+                valueOf(ProjectStage.class, rs.getString(1)),
+                valueOf(ProjectDomain.class, rs.getString(2)),
+                valueOf(WorkStyle.class, rs.getString(3)),
+                valueOf(RewardType.class, rs.getString(4)),
+                rs.getInt(5));
+        if (restrictTo == null) {
+            jdbcTemplate.query(FACET_COUNT_SQL + FACET_GROUP_BY, handler);
+            return tally.toCounts();
+        }
+        for (int from = 0; from < restrictTo.length; from += IN_CLAUSE_SIZE) {
+            int to = Math.min(restrictTo.length, from + IN_CLAUSE_SIZE);
+            String placeholders = String.join(", ", Collections.nCopies(to - from, "?"));
+            jdbcTemplate.query(FACET_COUNT_SQL + " WHERE id IN (" + placeholders + ")" + FACET_GROUP_BY,
+                    handler, Arrays.stream(restrictTo, from, to).boxed().toArray());
+        }
+        return tally.toCounts();
+    }
+
+    /**
+     * 행을 잠그고 읽은 version 보다 1 큰 version 으로 삭제를 기록한다.
+     */
+    @Override
+    public void deleteById(Long projectId) {
+        Long version = transactionTemplate.execute(status -> {
+            List<Long> found = jdbcTemplate.queryForList(VERSION_SQL + " FOR UPDATE", Long.class, projectId);
+            jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+            return found.isEmpty() ? null : found.get(0);
+        });
+        modifications.incrementAndGet();
+        if (version != null) {
+            changeLog.deleted(ChangeEntityType.PROJECT, projectId, version + 1);
+        }
+    }
+
+    @Override
+    public long modificationCount() {
+        return modifications.get();
+    }
+
+    /**
+     * 지금 트랜잭션에서 본 id 별 version. IN_CLAUSE_SIZE 개씩 나눠 읽는다.
+     */
+    private Map<Long, Long> currentVersions(List<Project> projects) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (int from = 0; from < projects.size(); from += IN_CLAUSE_SIZE) {
+            List<Project> chunk = projects.subList(from, Math.min(projects.size(), from + IN_CLAUSE_SIZE));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id, version FROM projects WHERE id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> versions.put(rs.getLong(1), rs.getLong(2)),
+                    chunk.stream().map(Project::getId).toArray());
+        }
+        return versions;
+    }
+
+    private static void appendCondition(StringBuilder sql, List<Object> args, String column, Enum<?> value) {
+        if (value != null) {
+            sql.append(" AND ").append(column).append(" = ?");
+            args.add(value.name());
+        }
+    }
+
+    private static void bindColumns(PreparedStatement ps, Project project) throws SQLException {
+        ps.setObject(1, project.getOwnerId());
+        ps.setString(2, project.getName());
+        ps.setString(3, project.getOneLineIntro());
+        ps.setString(4, project.getDescription());
+        ps.setString(5, name(project.getStage()));
+        ps.setString(6, name(project.getDomain()));
+        ps.setString(7, name(project.getWorkStyle()));
+        ps.setString(8, name(project.getRewardType()));
+        ps.setString(9, project.getExpectedDuration());
+        ps.setTimestamp(10, timestamp(project.getCreatedAt()));
+        ps.setTimestamp(11, timestamp(project.getUpdatedAt()));
+    }
+
+    private static Project mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return Project.builder()
+                .id(rs.getLong("id"))
+                .ownerId(rs.getObject("owner_id", Long.class))
+                .name(rs.getString("name"))
+                .oneLineIntro(rs.getString("one_line_intro"))
+                .description(rs.getString("description"))
+                .stage(valueOf(ProjectStage.class, rs.getString("stage")))
+                .domain(valueOf(ProjectDomain.class, rs.getString("project_domain")))
+                .workStyle(valueOf(WorkStyle.class, rs.getString("work_style")))
+                .rewardType(valueOf(RewardType.class, rs.getString("reward_type")))
+                .expectedDuration(rs.getString("expected_duration"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .version(rs.getLong("version"))
+                .build();
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    private static <E extends Enum<E>> E valueOf(Class<E> type, String value) {
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,88 @@
+package com.founder.match.project.repository;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+
+import lombok.Getter;
+
+/**
+ * stage/domain/workStyle/rewardType 값별 프로젝트 수.
+ * 각 차원의 수는 그 차원을 뺀 나머지 필터 조건으로 세므로, 선택을 다른 값으로 바꿨을 때의 결과 수가 된다.
+ * total 은 모든 조건에 맞는 프로젝트 수다.
+ */
+@Getter
+public class ProjectFacetCounts {
+
+    private final int total;
+    private final Map<ProjectStage, Integer> stage;
+    private final Map<ProjectDomain, Integer> domain;
+    private final Map<WorkStyle, Integer> workStyle;
+    private final Map<RewardType, Integer> rewardType;
+
+    ProjectFacetCounts(int total, int[] stage, int[] domain, int[] workStyle, int[] rewardType) {
+        this.total = total;
+        this.stage = toMap(ProjectStage.class, stage);
+        this.domain = toMap(ProjectDomain.class, domain);
+        this.workStyle = toMap(WorkStyle.class, workStyle);
+        this.rewardType = toMap(RewardType.class, rewardType);
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> toMap(Class<E> type, int[] counts) {
+        Map<E, Integer> map = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            map.put(value, counts[value.ordinal()]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 값 조합별 건수(GROUP BY 결과)를 더해 가며 차원별 수를 만든다.
+     */
+    static final class Tally {
+
+        private final ProjectFacetFilter filter;
+        private final int[] stage = new int[ProjectStage.values().length];
+        private final int[] domain = new int[ProjectDomain.values().length];
+        private final int[] workStyle = new int[WorkStyle.values().length];
+        private final int[] rewardType = new int[RewardType.values().length];
+        private int total;
+
+        Tally(ProjectFacetFilter filter) {
+            this.filter = filter;
+        }
+
+        void add(ProjectStage stageValue, ProjectDomain domainValue, WorkStyle workStyleValue,
+                 RewardType rewardTypeValue, int count) {
+            boolean stageMatches = filter.getStage() == null || filter.getStage() == stageValue;
+            boolean domainMatches = filter.getDomain() == null || filter.getDomain() == domainValue;
+            boolean workStyleMatches = filter.getWorkStyle() == null || filter.getWorkStyle() == workStyleValue;
+            boolean rewardTypeMatches = filter.getRewardType() == null || filter.getRewardType() == rewardTypeValue;
+
+            if (stageValue != null && domainMatches && workStyleMatches && rewardTypeMatches) {
+                stage[stageValue.ordinal()] += count;
+            }
+            if (domainValue != null && stageMatches && workStyleMatches && rewardTypeMatches) {
+                domain[domainValue.ordinal()] += count;
+            }
+            if (workStyleValue != null && stageMatches && domainMatches && rewardTypeMatches) {
+                workStyle[workStyleValue.ordinal()] += count;
+            }
+            if (rewardTypeValue != null && stageMatches && domainMatches && workStyleMatches) {
+                rewardType[rewardTypeValue.ordinal()] += count;
+            }
+            if (stageMatches && domainMatches && workStyleMatches && rewardTypeMatches) {
+                total += count;
+            }
+        }
+
+        ProjectFacetCounts toCounts() {
+            return new ProjectFacetCounts(total, stage, domain, workStyle, rewardType);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.founder.match.project.repository;
+
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Project 목록 조회용 facet 필터.
+ * null 인 항목은 조건에서 제외한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectFacetFilter {
+
+    private final ProjectStage stage;
+    private final ProjectDomain domain;
+    private final WorkStyle workStyle;
+    private final RewardType rewardType;
+
+    public boolean matches(Project project) {
+        return (stage == null || stage == project.getStage())
+                && (domain == null || domain == project.getDomain())
+                && (workStyle == null || workStyle == project.getWorkStyle())
+                && (rewardType == null || rewardType == project.getRewardType());
+    }
+}
@@ -0,0 +1,213 @@
+package com.founder.match.project.repository;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+
+/**
+ * stage/domain/workStyle/rewardType 값별 id 비트맵 인덱스.
+ * 비트 위치가 곧 project id 이며, 필터 조회는 비트맵 교집합으로 계산한다.
+ * id 만으로 이전 값을 지울 수 있도록 id별 ordinal 배열을 따로 보관한다.
+ * facet 별 건수 집계를 위해 값별 프로젝트 수도 추가/삭제 때마다 함께 갱신한다.
+ */
+class ProjectFacetIndex {
+
+    private static final byte NONE = -1;
+    private static final int DIMENSIONS = 4;
+
+    private final BitSet all = new BitSet();
+    private final BitSet[] byStage = bitmaps(ProjectStage.values().length);
+    private final BitSet[] byDomain = bitmaps(ProjectDomain.values().length);
+    private final BitSet[] byWorkStyle = bitmaps(WorkStyle.values().length);
+    private final BitSet[] byRewardType = bitmaps(RewardType.values().length);
+    /** 차원 순서: stage, domain, workStyle, rewardType. */
+    private final BitSet[][] byDimension = {byStage, byDomain, byWorkStyle, byRewardType};
+    private final int[][] valueCounts = {
+            new int[byStage.length], new int[byDomain.length], new int[byWorkStyle.length], new int[byRewardType.length]
+    };
+
+    private byte[] stageOf = new byte[0];
+    private byte[] domainOf = new byte[0];
+    private byte[] workStyleOf = new byte[0];
+    private byte[] rewardTypeOf = new byte[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void add(Project project) {
+        int id = Math.toIntExact(project.getId());
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(id);
+            clear(id);
+            all.set(id);
+            stageOf[id] = mark(0, ordinal(project.getStage()), id);
+            domainOf[id] = mark(1, ordinal(project.getDomain()), id);
+            workStyleOf[id] = mark(2, ordinal(project.getWorkStyle()), id);
+            rewardTypeOf[id] = mark(3, ordinal(project.getRewardType()), id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long projectId) {
+        int id = Math.toIntExact(projectId);
+        lock.writeLock().lock();
+        try {
+            if (id < stageOf.length) {
+                clear(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터에 해당하는 id 비트맵의 복사본을 반환한다.
+     */
+    BitSet select(ProjectFacetFilter filter) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) all.clone();
+            and(result, byStage, ordinal(filter.getStage()));
+            and(result, byDomain, ordinal(filter.getDomain()));
+            and(result, byWorkStyle, ordinal(filter.getWorkStyle()));
+            and(result, byRewardType, ordinal(filter.getRewardType()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 차원별 값마다 그 차원을 뺀 나머지 필터와 restrictTo 에 맞는 프로젝트 수.
+     * 나머지 조건이 없는 차원은 유지 중인 값별 수를 그대로 쓰고, 있으면 비트맵 교집합의 cardinality 로 센다.
+     * 프로젝트를 하나씩 훑지 않으므로 비용은 값 개수 × 비트맵 워드 수에 비례한다.
+     *
+     * @param restrictTo 키워드 검색 결과처럼 추가로 제한할 id 집합. 없으면 null.
+     */
+    ProjectFacetCounts count(ProjectFacetFilter filter, BitSet restrictTo) {
+        int[] selected = {
+                ordinal(filter.getStage()),
+                ordinal(filter.getDomain()),
+                ordinal(filter.getWorkStyle()),
+                ordinal(filter.getRewardType())
+        };
+        lock.readLock().lock();
+        try {
+            int[][] counts = new int[DIMENSIONS][];
+            for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+                BitSet base = intersect(selected, dimension, restrictTo);
+                counts[dimension] = base == null
+                        ? valueCounts[dimension].clone()
+                        : cardinalities(base, byDimension[dimension]);
+            }
+            BitSet matched = intersect(selected, -1, restrictTo);
+            int total = (matched == null ? all : matched).cardinality();
+            return new ProjectFacetCounts(total, counts[0], counts[1], counts[2], counts[3]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * except 차원을 뺀 선택 값 비트맵과 restrictTo 의 교집합. 조건이 하나도 없으면 null.
+     */
+    private BitSet intersect(int[] selected, int except, BitSet restrictTo) {
+        BitSet result = null;
+        if (restrictTo != null) {
+            result = (BitSet) restrictTo.clone();
+            result.and(all);
+        }
+        for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+            if (dimension == except || selected[dimension] < 0) {
+                continue;
+            }
+            BitSet bitmap = byDimension[dimension][selected[dimension]];
+            if (result == null) {
+                result = (BitSet) bitmap.clone();
+            } else {
+                result.and(bitmap);
+            }
+        }
+        return result;
+    }
+
+    private static int[] cardinalities(BitSet base, BitSet[] bitmaps) {
+        int[] counts = new int[bitmaps.length];
+        for (int i = 0; i < bitmaps.length; i++) {
+            BitSet intersection = (BitSet) bitmaps[i].clone();
+            intersection.and(base);
+            counts[i] = intersection.cardinality();
+        }
+        return counts;
+    }
+
+    private void clear(int id) {
+        if (!all.get(id)) {
+            return;
+        }
+        all.clear(id);
+        unmark(0, stageOf[id], id);
+        unmark(1, domainOf[id], id);
+        unmark(2, workStyleOf[id], id);
+        unmark(3, rewardTypeOf[id], id);
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < stageOf.length) {
+            return;
+        }
+        int capacity = Math.max(id + 1, stageOf.length * 2);
+        stageOf = grow(stageOf, capacity);
+        domainOf = grow(domainOf, capacity);
+        workStyleOf = grow(workStyleOf, capacity);
+        rewardTypeOf = grow(rewardTypeOf, capacity);
+    }
+
+    private static byte[] grow(byte[] values, int capacity) {
+        byte[] grown = Arrays.copyOf(values, capacity);
+        Arrays.fill(grown, values.length, capacity, NONE);
+        return grown;
+    }
+
+    private byte mark(int dimension, int ordinal, int id) {
+        if (ordinal < 0) {
+            return NONE;
+        }
+        byDimension[dimension][ordinal].set(id);
+        valueCounts[dimension][ordinal]++;
+        return (byte) ordinal;
+    }
+
+    private void unmark(int dimension, byte ordinal, int id) {
+        if (ordinal != NONE) {
+            byDimension[dimension][ordinal].clear(id);
+            valueCounts[dimension][ordinal]--;
+        }
+    }
+
+    private static void and(BitSet result, BitSet[] bitmaps, int ordinal) {
+        if (ordinal >= 0) {
+            result.and(bitmaps[ordinal]);
+        }
+    }
+
+    private static int ordinal(Enum<?> value) {
+        return value == null ? NONE : value.ordinal();
+    }
+
+    private static BitSet[] bitmaps(int size) {
+        BitSet[] bitmaps = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            bitmaps[i] = new BitSet();
+        }
+        return bitmaps;
+    }
+}
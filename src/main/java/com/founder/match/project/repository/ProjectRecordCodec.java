@@ -0,0 +1,57 @@
+package com.founder.match.project.repository;
+
+import com.founder.match.persistence.RecordCodec;
+import com.founder.match.persistence.RecordReader;
+import com.founder.match.persistence.RecordWriter;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+
+/**
+ * Project 의 WAL 레코드 형식. enum 은 ordinal 로 기록하므로 상수 순서를 바꾸면 안 된다.
+ */
+public class ProjectRecordCodec implements RecordCodec<Project> {
+
+    private static final ProjectStage[] STAGES = ProjectStage.values();
+    private static final ProjectDomain[] DOMAINS = ProjectDomain.values();
+    private static final WorkStyle[] WORK_STYLES = WorkStyle.values();
+    private static final RewardType[] REWARD_TYPES = RewardType.values();
+
+    @Override
+    public void write(Project project, RecordWriter writer) {
+        writer.writeLong(project.getId());
+        writer.writeNullableLong(project.getOwnerId());
+        writer.writeString(project.getName());
+        writer.writeString(project.getOneLineIntro());
+        writer.writeString(project.getDescription());
+        writer.writeEnum(project.getStage());
+        writer.writeEnum(project.getDomain());
+        writer.writeEnum(project.getWorkStyle());
+        writer.writeEnum(project.getRewardType());
+        writer.writeString(project.getExpectedDuration());
+        writer.writeDateTime(project.getCreatedAt());
+        writer.writeDateTime(project.getUpdatedAt());
+        writer.writeLong(project.getVersion());
+    }
+
+    @Override
+    public Project read(RecordReader reader) {
+        return Project.builder()
+                .id(reader.readLong())
+                .ownerId(reader.readNullableLong())
+                .name(reader.readString())
+                .oneLineIntro(reader.readString())
+                .description(reader.readString())
+                .stage(reader.readEnum(STAGES))
+                .domain(reader.readEnum(DOMAINS))
+                .workStyle(reader.readEnum(WORK_STYLES))
+                .rewardType(reader.readEnum(REWARD_TYPES))
+                .expectedDuration(reader.readString())
+                .createdAt(reader.readDateTime())
+                .updatedAt(reader.readDateTime())
+                .version(reader.readLong())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.founder.match.project.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.founder.match.project.domain.Project;
 
@@ -10,7 +11,58 @@ import com.founder.match.project.domain.Project;
  */
 public interface ProjectRepository {
     Project save(Project project);
+
+    /**
+     * 여러 건을 한 번에 저장한다. 구현체는 가능한 경우 batch 로 처리한다.
+     */
+    List<Project> saveAll(List<Project> projects);
+
+    /**
+     * 저장된 값의 version 이 expected 와 같을 때만 updated 로 교체한다(CAS).
+     * 그 사이 다른 수정이 반영됐거나 삭제됐으면 false 를 돌려준다.
+     */
+    boolean replace(Project expected, Project updated);
     Optional<Project> findById(Long projectId);
+
+    /**
+     * ids(오름차순)에 해당하는 프로젝트를 id 오름차순으로 조회한다. 없는 id 는 건너뛴다.
+     */
+    List<Project> findAllById(int[] ids);
     List<Project> findAll();
+
+    /**
+     * 모든 항목을 목록으로 복사하지 않고 차례로 넘긴다. 순회 중의 변경은 반영될 수도, 안 될 수도 있다.
+     */
+    void forEach(Consumer<? super Project> action);
+
+    /**
+     * 소유자의 프로젝트를 id 오름차순으로 조회한다.
+     */
+    List<Project> findByOwnerId(Long ownerId);
+    List<Project> findByFacets(ProjectFacetFilter filter);
+
+    /**
+     * afterId 보다 큰 id 중 필터에 맞는 프로젝트를 id 오름차순으로 최대 limit 건 조회한다.
+     */
+    List<Project> findByFacets(ProjectFacetFilter filter, Long afterId, int limit);
+
+    /**
+     * 필터에 맞는 프로젝트를 order 순(시각 내림차순, 같으면 id 오름차순)으로 최대 limit 건 조회한다.
+     *
+     * @param after 이전 페이지 마지막 항목의 {order.keyOf 값, id}. 첫 페이지면 null.
+     */
+    List<Project> findByFacets(ProjectFacetFilter filter, ProjectTimeOrder order, long[] after, int limit);
+
+    /**
+     * facet 값별 프로젝트 수. 각 차원은 그 차원을 뺀 나머지 필터로 센다.
+     *
+     * @param restrictTo 추가로 제한할 id 목록(오름차순). 없으면 null.
+     */
+    ProjectFacetCounts countFacets(ProjectFacetFilter filter, int[] restrictTo);
     void deleteById(Long projectId);
+
+    /**
+     * 이 저장소를 거친 변경(저장/교체/삭제) 횟수. 변경이 반영된 뒤에 증가하므로 목록 응답의 ETag 로 쓸 수 있다.
+     */
+    long modificationCount();
 }
@@ -0,0 +1,50 @@
+package com.founder.match.project.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Function;
+
+import com.founder.match.project.domain.Project;
+
+/**
+ * 시각 컬럼 기준 최근순 정렬. 시각 내림차순, 같으면 id 오름차순이다.
+ * 커서에 담는 정렬 값은 UTC 기준 epoch 나노초이며, 시각이 없으면 가장 작은 값(맨 뒤)으로 본다.
+ */
+public enum ProjectTimeOrder {
+
+    CREATED_AT("created_at", Project::getCreatedAt),
+    UPDATED_AT("updated_at", Project::getUpdatedAt);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String column;
+    private final Function<Project, LocalDateTime> time;
+
+    ProjectTimeOrder(String column, Function<Project, LocalDateTime> time) {
+        this.column = column;
+        this.time = time;
+    }
+
+    public long keyOf(Project project) {
+        LocalDateTime value = time.apply(project);
+        if (value == null) {
+            return Long.MIN_VALUE;
+        }
+        return value.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + value.getNano();
+    }
+
+    String column() {
+        return column;
+    }
+
+    /**
+     * keyOf 의 역변환. 시각이 없음을 뜻하는 Long.MIN_VALUE 는 null 로 돌려준다.
+     */
+    static LocalDateTime timeOf(long key) {
+        if (key == Long.MIN_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(key, NANOS_PER_SECOND),
+                (int) Math.floorMod(key, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,78 @@
+package com.founder.match.project.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.founder.match.project.domain.Project;
+
+/**
+ * 정렬 값 상위 k 건만 유지하는 최소 힙.
+ * 커서(after) 이후의 후보만 받아 전체를 정렬하지 않고 O(n log k)로 한 페이지를 고른다.
+ */
+public final class ProjectTopK {
+
+    /** 정렬 값 내림차순, 같으면 id 오름차순. */
+    private static final Comparator<Ranked> ORDER = Comparator.comparingLong(Ranked::getKey).reversed()
+            .thenComparingLong(Ranked::getId);
+
+    private final int k;
+    private final long[] after;
+    private final PriorityQueue<Ranked> heap;
+
+    /**
+     * @param after 이전 페이지 마지막 항목의 {정렬 값, id}. 첫 페이지면 null.
+     */
+    public ProjectTopK(int k, long[] after) {
+        this.k = k;
+        this.after = after;
+        this.heap = new PriorityQueue<>(Math.min(k, 1024) + 1, ORDER.reversed());
+    }
+
+    public void offer(Project project, long key) {
+        long id = project.getId();
+        if (after != null && (key > after[0] || (key == after[0] && id <= after[1]))) {
+            return;
+        }
+        if (heap.size() == k) {
+            Ranked weakest = heap.peek();
+            if (key < weakest.key || (key == weakest.key && id > weakest.getId())) {
+                return;
+            }
+        }
+        heap.offer(new Ranked(project, key));
+        if (heap.size() > k) {
+            heap.poll();
+        }
+    }
+
+    public List<Ranked> toSortedList() {
+        List<Ranked> results = new ArrayList<>(heap);
+        results.sort(ORDER);
+        return results;
+    }
+
+    public static final class Ranked {
+
+        private final Project project;
+        private final long key;
+
+        private Ranked(Project project, long key) {
+            this.project = project;
+            this.key = key;
+        }
+
+        public Project getProject() {
+            return project;
+        }
+
+        public long getKey() {
+            return key;
+        }
+
+        public long getId() {
+            return project.getId();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.founder.match.project.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int id 목록(posting list).
+ * id는 대부분 증가 순으로 들어오므로 뒤에 붙이는 경우를 빠른 경로로 처리한다.
+ */
+class IntPostings {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    void add(int id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int get(int index) {
+        return ids[index];
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.founder.match.project.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.founder.match.project.domain.Project;
+
+/**
+ * Project name/oneLineIntro/description 키워드 검색용 역색인.
+ * 공백 기준 토큰화가 어려운 한글 본문을 위해 소문자로 정규화한 텍스트의
+ * 문자 1-gram/2-gram을 posting list로 유지하고, 후보는 저장된 정규화 텍스트로 최종 확인한다.
+ * 기존 부분 문자열(contains) 검색과 같은 결과를 돌려준다.
+ * 관련도 정렬용으로 필드별 가중치를 둔 BM25F 점수를 계산하며, 이를 위해 필드별 전체 길이를 함께 유지한다.
+ *
+ * 정규화 텍스트(documents)는 2-gram 후보가 실제로 키워드를 연속으로 포함하는지 확인하고, BM25F 의 필드별
+ * 등장 횟수를 세고, 수정 시 이전 n-gram 을 구하는 데 쓴다. 이를 저장소에서 다시 읽으면 JDBC 모드에서는
+ * 색인 잠금을 쥔 채 DB 를 읽게 되므로 색인이 직접 들고 있는다. 이미 소문자인 텍스트는 toLowerCase 가
+ * 같은 인스턴스를 돌려주므로 Project 와 문자열을 공유하고, 대문자가 섞인 필드만 사본이 생긴다.
+ *
+ * 수정 시에는 이전과 새 n-gram 집합의 차이만 posting list 에 반영하고, 정규화 텍스트가 같으면 아무것도 하지 않는다.
+ */
+@Component
+public class ProjectKeywordIndex {
+
+    private static final int FIELD_COUNT = 3;
+    /** 이 건수 이상을 한 번에 색인하면 정규화와 n-gram 계산을 공용 풀의 여러 스레드로 나눈다. */
+    private static final int PARALLEL_THRESHOLD = 1024;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<Integer, IntPostings> unigrams = new HashMap<>();
+    private final Map<Integer, IntPostings> bigrams = new HashMap<>();
+    private final Map<Integer, String[]> documents = new HashMap<>();
+    private final long[] totalFieldLengths = new long[FIELD_COUNT];
+    private final double[] fieldBoosts;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProjectKeywordIndex(@Value("${project.search.boost.name:3.0}") double nameBoost,
+                               @Value("${project.search.boost.one-line-intro:2.0}") double oneLineIntroBoost,
+                               @Value("${project.search.boost.description:1.0}") double descriptionBoost) {
+        this.fieldBoosts = new double[]{nameBoost, oneLineIntroBoost, descriptionBoost};
+    }
+
+    public void index(Project project) {
+        indexAll(List.of(project));
+    }
+
+    /**
+     * 여러 프로젝트를 쓰기 잠금 한 번으로 색인한다. 정규화와 새 n-gram 계산은 잠금 밖에서 미리 끝낸다.
+     * posting list 는 id 가 커지는 순서로 들어올 때 뒤에 붙이기만 하므로, 큰 묶음은 id 순으로 넘기는 것이 빠르다.
+     */
+    public void indexAll(List<Project> projects) {
+        Stream<Project> source = projects.size() >= PARALLEL_THRESHOLD ? projects.parallelStream() : projects.stream();
+        List<Document> prepared = source
+                .map(project -> new Document(Math.toIntExact(project.getId()), new String[]{
+                        normalize(project.getName()),
+                        normalize(project.getOneLineIntro()),
+                        normalize(project.getDescription())
+                }))
+                .collect(Collectors.toList());
+
+        lock.writeLock().lock();
+        try {
+            for (Document document : prepared) {
+                String[] previous = documents.get(document.id);
+                if (previous == null) {
+                    documents.put(document.id, document.fields);
+                    addLengths(document.fields, 1);
+                    addAll(unigrams, document.unigrams, document.id);
+                    addAll(bigrams, document.bigrams, document.id);
+                } else if (!Arrays.equals(previous, document.fields)) {
+                    documents.put(document.id, document.fields);
+                    addLengths(previous, -1);
+                    addLengths(document.fields, 1);
+                    relink(unigrams, unigramsOf(previous), document.unigrams, document.id);
+                    relink(bigrams, bigramsOf(previous), document.bigrams, document.id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long projectId) {
+        int id = Math.toIntExact(projectId);
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.remove(id);
+            if (previous != null) {
+                addLengths(previous, -1);
+                relink(unigrams, unigramsOf(previous), new int[0], id);
+                relink(bigrams, bigramsOf(previous), new int[0], id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 정규화된 키워드를 포함하는 project id를 오름차순으로 반환한다.
+     */
+    public int[] search(String normalizedKeyword) {
+        lock.readLock().lock();
+        try {
+            return searchLocked(normalizedKeyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ids 각각의 BM25F 점수. 키워드를 공백으로 나눈 단어마다 필드별 등장 횟수에 가중치를 곱해 더한 뒤
+     * 필드 길이로 정규화하고, 단어의 문서 빈도로 구한 idf 를 곱한다. 색인에 없는 id 는 0 이다.
+     */
+    public double[] scores(String normalizedKeyword, int[] ids) {
+        double[] scores = new double[ids.length];
+        String[] terms = Arrays.stream(normalizedKeyword.trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0 || terms.length == 0) {
+                return scores;
+            }
+            double[] averageLengths = new double[FIELD_COUNT];
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                averageLengths[field] = Math.max(1.0, (double) totalFieldLengths[field] / documentCount);
+            }
+            double[] idfs = new double[terms.length];
+            for (int t = 0; t < terms.length; t++) {
+                int documentFrequency = searchLocked(terms[t]).length;
+                idfs[t] = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            }
+
+            for (int i = 0; i < ids.length; i++) {
+                String[] fields = documents.get(ids[i]);
+                if (fields == null) {
+                    continue;
+                }
+                double score = 0;
+                for (int t = 0; t < terms.length; t++) {
+                    double weightedFrequency = 0;
+                    for (int field = 0; field < FIELD_COUNT; field++) {
+                        int frequency = countOccurrences(fields[field], terms[t]);
+                        if (frequency > 0) {
+                            double lengthNorm = 1 - B + B * fields[field].length() / averageLengths[field];
+                            weightedFrequency += fieldBoosts[field] * frequency / lengthNorm;
+                        }
+                    }
+                    score += idfs[t] * weightedFrequency * (K1 + 1) / (weightedFrequency + K1);
+                }
+                scores[i] = score;
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private int[] searchLocked(String normalizedKeyword) {
+        List<IntPostings> postings = postingsOf(normalizedKeyword);
+        if (postings == null) {
+            return new int[0];
+        }
+        IntPostings smallest = postings.get(0);
+        for (IntPostings candidate : postings) {
+            if (candidate.size() < smallest.size()) {
+                smallest = candidate;
+            }
+        }
+
+        int[] matched = new int[smallest.size()];
+        int count = 0;
+        for (int i = 0; i < smallest.size(); i++) {
+            int id = smallest.get(i);
+            if (containsAll(postings, id) && containsKeyword(documents.get(id), normalizedKeyword)) {
+                matched[count++] = id;
+            }
+        }
+        return Arrays.copyOf(matched, count);
+    }
+
+    /**
+     * 키워드의 n-gram에 해당하는 posting list 목록. 하나라도 없으면 null.
+     */
+    private List<IntPostings> postingsOf(String keyword) {
+        List<IntPostings> postings = new ArrayList<>();
+        if (keyword.length() == 1) {
+            IntPostings unigram = unigrams.get((int) keyword.charAt(0));
+            if (unigram == null || unigram.isEmpty()) {
+                return null;
+            }
+            postings.add(unigram);
+            return postings;
+        }
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            IntPostings bigram = bigrams.get(bigram(keyword.charAt(i), keyword.charAt(i + 1)));
+            if (bigram == null || bigram.isEmpty()) {
+                return null;
+            }
+            postings.add(bigram);
+        }
+        return postings;
+    }
+
+    private void addLengths(String[] fields, int sign) {
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            totalFieldLengths[field] += sign * fields[field].length();
+        }
+    }
+
+    private static void addAll(Map<Integer, IntPostings> grams, int[] added, int id) {
+        for (int gram : added) {
+            grams.computeIfAbsent(gram, key -> new IntPostings()).add(id);
+        }
+    }
+
+    /**
+     * 두 정렬된 n-gram 집합을 함께 훑어, 이전에만 있는 n-gram 에서는 id 를 빼고 새로 생긴 n-gram 에만 더한다.
+     */
+    private static void relink(Map<Integer, IntPostings> grams, int[] previous, int[] current, int id) {
+        int i = 0;
+        int j = 0;
+        while (i < previous.length || j < current.length) {
+            if (j == current.length || (i < previous.length && previous[i] < current[j])) {
+                removeFrom(grams, previous[i++], id);
+            } else if (i == previous.length || current[j] < previous[i]) {
+                grams.computeIfAbsent(current[j++], key -> new IntPostings()).add(id);
+            } else {
+                i++;
+                j++;
+            }
+        }
+    }
+
+    private static void removeFrom(Map<Integer, IntPostings> grams, int gram, int id) {
+        IntPostings postings = grams.get(gram);
+        if (postings == null) {
+            return;
+        }
+        postings.remove(id);
+        if (postings.isEmpty()) {
+            grams.remove(gram);
+        }
+    }
+
+    /**
+     * 필드들에 나오는 문자 1-gram(중복 없이 오름차순).
+     */
+    private static int[] unigramsOf(String[] fields) {
+        int[] grams = new int[totalLength(fields)];
+        int count = 0;
+        for (String field : fields) {
+            for (int i = 0; i < field.length(); i++) {
+                grams[count++] = field.charAt(i);
+            }
+        }
+        return sortedDistinct(grams, count);
+    }
+
+    /**
+     * 필드들에 나오는 문자 2-gram(중복 없이 오름차순). 필드 경계를 넘는 2-gram 은 만들지 않는다.
+     */
+    private static int[] bigramsOf(String[] fields) {
+        int[] grams = new int[totalLength(fields)];
+        int count = 0;
+        for (String field : fields) {
+            for (int i = 0; i + 1 < field.length(); i++) {
+                grams[count++] = bigram(field.charAt(i), field.charAt(i + 1));
+            }
+        }
+        return sortedDistinct(grams, count);
+    }
+
+    /**
+     * 두 문자를 하나의 int 로 묶는다. HashMap 은 키의 상위와 하위 16비트를 XOR 해 칸을 고르므로
+     * (first << 16 | second) 를 그대로 쓰면 first ^ second 가 같은 2-gram 이 한 칸에 몰린다.
+     * 홀수를 곱해 섞는다. 32비트에서 홀수 곱은 일대일이라 서로 다른 2-gram 은 키도 다르다.
+     */
+    private static int bigram(char first, char second) {
+        return ((first << 16) | second) * 0x9E3779B9;
+    }
+
+    private static int totalLength(String[] fields) {
+        int length = 0;
+        for (String field : fields) {
+            length += field.length();
+        }
+        return length;
+    }
+
+    private static int[] sortedDistinct(int[] grams, int count) {
+        Arrays.sort(grams, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[distinct - 1] != grams[i]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private static boolean containsAll(List<IntPostings> postings, int id) {
+        for (IntPostings posting : postings) {
+            if (!posting.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countOccurrences(String field, String term) {
+        int count = 0;
+        for (int at = field.indexOf(term); at >= 0; at = field.indexOf(term, at + term.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean containsKeyword(String[] fields, String keyword) {
+        if (fields == null) {
+            return false;
+        }
+        for (String field : fields) {
+            if (field.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 잠금 밖에서 미리 정규화하고 n-gram 을 구해 둔 색인 대상.
+     */
+    private static final class Document {
+
+        private final int id;
+        private final String[] fields;
+        private final int[] unigrams;
+        private final int[] bigrams;
+
+        private Document(int id, String[] fields) {
+            this.id = id;
+            this.fields = fields;
+            this.unigrams = unigramsOf(fields);
+            this.bigrams = bigramsOf(fields);
+        }
+    }
+}
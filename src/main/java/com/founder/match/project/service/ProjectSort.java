@@ -0,0 +1,65 @@
+package com.founder.match.project.service;
+
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.repository.ProjectTimeOrder;
+
+/**
+ * 프로젝트 목록 정렬 기준. ID 외에는 정렬 값 내림차순, 값이 같으면 id 오름차순이다.
+ * 정렬 값은 커서에 담을 수 있도록 long 으로 나타낸다.
+ */
+public enum ProjectSort {
+
+    /** id 오름차순 (기본값). */
+    ID("id"),
+    /** 최근 생성순. */
+    CREATED_AT("createdAt"),
+    /** 최근 수정순. */
+    UPDATED_AT("updatedAt"),
+    /** 키워드 BM25 점수순. 키워드가 없으면 id 오름차순과 같다. */
+    RELEVANCE("relevance");
+
+    private final String parameter;
+
+    ProjectSort(String parameter) {
+        this.parameter = parameter;
+    }
+
+    /**
+     * sort 요청 파라미터 값으로 찾는다. 없으면 ID.
+     */
+    public static ProjectSort from(String parameter) {
+        if (parameter == null || parameter.isBlank()) {
+            return ID;
+        }
+        for (ProjectSort sort : values()) {
+            if (sort.parameter.equals(parameter)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + parameter);
+    }
+
+    /**
+     * 정렬 값. ID 는 모두 같은 값이라 id 오름차순만 남고,
+     * relevance 는 0 이상의 점수라 비트 표현의 대소가 점수의 대소와 같다.
+     */
+    long keyOf(Project project, double score) {
+        return switch (this) {
+            case ID -> 0L;
+            case CREATED_AT -> ProjectTimeOrder.CREATED_AT.keyOf(project);
+            case UPDATED_AT -> ProjectTimeOrder.UPDATED_AT.keyOf(project);
+            case RELEVANCE -> Double.doubleToLongBits(score);
+        };
+    }
+
+    /**
+     * 저장소에 그대로 내릴 수 있는 시각 정렬. 시각 정렬이 아니면 null.
+     */
+    ProjectTimeOrder timeOrder() {
+        return switch (this) {
+            case CREATED_AT -> ProjectTimeOrder.CREATED_AT;
+            case UPDATED_AT -> ProjectTimeOrder.UPDATED_AT;
+            case ID, RELEVANCE -> null;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.founder.match.savedsearch.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.founder.match.savedsearch.dto.SavedSearchRequest;
+import com.founder.match.savedsearch.dto.SavedSearchResponse;
+import com.founder.match.savedsearch.service.SavedSearchService;
+
+import jakarta.validation.Valid;
+
+/**
+ * 사용자별 저장 검색 REST API.
+ * /stream 은 저장 검색에 새로 일치하는 프로젝트를 project-match 이벤트로 보내는 SSE 연결이다.
+ */
+@RestController
+@RequestMapping("/api/users/{userId}/saved-searches")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    public SavedSearchController(SavedSearchService savedSearchService) {
+        this.savedSearchService = savedSearchService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(@PathVariable Long userId,
+                                                                 @Valid @RequestBody SavedSearchRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(SavedSearchResponse.from(savedSearchService.create(userId, request)));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponse>> getSavedSearches(@PathVariable Long userId) {
+        List<SavedSearchResponse> responses = savedSearchService.getSavedSearches(userId)
+                .stream()
+                .map(SavedSearchResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(responses);
+    }
+
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long userId, @PathVariable Long savedSearchId) {
+        savedSearchService.delete(userId, savedSearchId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatches(@PathVariable Long userId) {
+        return savedSearchService.subscribe(userId);
+    }
+}
@@ -0,0 +1,37 @@
+package com.founder.match.savedsearch.domain;
+
+import java.time.LocalDateTime;
+
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+import com.founder.match.project.repository.ProjectFacetFilter;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 사용자가 저장해 둔 프로젝트 검색 조건.
+ * 프로젝트 목록 조회와 같은 항목을 쓰며 null 인 항목은 조건에서 제외한다. keyword 는 정규화된 값이다.
+ */
+@Value
+@Builder
+public class SavedSearch {
+
+    Long id;
+    Long userId;
+    ProjectStage stage;
+    ProjectDomain domain;
+    WorkStyle workStyle;
+    RewardType rewardType;
+    String keyword;
+    LocalDateTime createdAt;
+
+    public ProjectFacetFilter toFilter() {
+        return new ProjectFacetFilter(stage, domain, workStyle, rewardType);
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isEmpty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.founder.match.savedsearch.dto;
+
+import java.util.List;
+
+import com.founder.match.project.dto.ProjectResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SSE 로 보내는 새 프로젝트 알림. 한 사용자의 여러 저장 검색에 걸린 경우 한 번만 보내고 해당 id 를 모두 싣는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SavedSearchMatchResponse {
+
+    private final List<Long> savedSearchIds;
+    private final ProjectResponse project;
+}
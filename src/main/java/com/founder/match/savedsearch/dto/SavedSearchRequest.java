@@ -0,0 +1,26 @@
+package com.founder.match.savedsearch.dto;
+
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * 저장 검색 등록 요청 DTO. 모든 항목이 비어 있으면 새로 등록되는 모든 프로젝트를 알린다.
+ */
+@Data
+public class SavedSearchRequest {
+
+    private ProjectStage stage;
+
+    private ProjectDomain domain;
+
+    private WorkStyle workStyle;
+
+    private RewardType rewardType;
+
+    @Size(max = 100)
+    private String keyword;
+}
@@ -0,0 +1,41 @@
+package com.founder.match.savedsearch.dto;
+
+import java.time.LocalDateTime;
+
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+import com.founder.match.savedsearch.domain.SavedSearch;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장 검색 조회 응답 DTO.
+ */
+@Getter
+@Builder
+public class SavedSearchResponse {
+
+    private final Long id;
+    private final Long userId;
+    private final ProjectStage stage;
+    private final ProjectDomain domain;
+    private final WorkStyle workStyle;
+    private final RewardType rewardType;
+    private final String keyword;
+    private final LocalDateTime createdAt;
+
+    public static SavedSearchResponse from(SavedSearch savedSearch) {
+        return SavedSearchResponse.builder()
+                .id(savedSearch.getId())
+                .userId(savedSearch.getUserId())
+                .stage(savedSearch.getStage())
+                .domain(savedSearch.getDomain())
+                .workStyle(savedSearch.getWorkStyle())
+                .rewardType(savedSearch.getRewardType())
+                .keyword(savedSearch.getKeyword())
+                .createdAt(savedSearch.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.founder.match.savedsearch.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.search.ProjectKeywordIndex;
+import com.founder.match.savedsearch.domain.SavedSearch;
+
+/**
+ * 저장 검색 조건의 역색인.
+ * 각 검색을 facet 값 술어와 키워드 술어로 나눠 술어별 posting 에 검색 id 를 넣어 두고,
+ * 프로젝트가 들어오면 그 프로젝트가 만족하는 술어의 posting 만 훑어 검색별로 만족한 술어 수를 센다.
+ * 센 값이 그 검색의 술어 수와 같으면 일치다. 조건이 하나도 없는 검색은 따로 모아 두고 항상 일치로 본다.
+ * 키워드 술어는 키워드의 첫 2-gram(한 글자면 그 글자)에 걸어 두고, 후보가 되면 부분 문자열 포함 여부로 확인한다.
+ */
+class SavedSearchIndex {
+
+    private final Map<Long, SavedSearch> searches = new HashMap<>();
+    private final Map<Long, Set<Long>> userIndex = new HashMap<>();
+    private final Map<Enum<?>, Set<Long>> facetPostings = new HashMap<>();
+    private final Map<Character, Set<Long>> keywordUnigrams = new HashMap<>();
+    private final Map<Integer, Set<Long>> keywordBigrams = new HashMap<>();
+    private final Set<Long> unconditional = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 사용자의 저장 검색이 이미 maxPerUser 개면 추가하지 않고 false 를 돌려준다.
+     */
+    boolean add(SavedSearch search, int maxPerUser) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> owned = userIndex.computeIfAbsent(search.getUserId(), key -> new TreeSet<>());
+            if (owned.size() >= maxPerUser) {
+                return false;
+            }
+            owned.add(search.getId());
+            searches.put(search.getId(), search);
+            for (Enum<?> value : facetValues(search)) {
+                facetPostings.computeIfAbsent(value, key -> new HashSet<>()).add(search.getId());
+            }
+            if (search.hasKeyword()) {
+                keywordPostings(search.getKeyword()).add(search.getId());
+            }
+            if (predicateCount(search) == 0) {
+                unconditional.add(search.getId());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Optional<SavedSearch> remove(Long searchId) {
+        lock.writeLock().lock();
+        try {
+            SavedSearch search = searches.remove(searchId);
+            if (search == null) {
+                return Optional.empty();
+            }
+            removeFrom(userIndex, search.getUserId(), searchId);
+            for (Enum<?> value : facetValues(search)) {
+                removeFrom(facetPostings, value, searchId);
+            }
+            if (search.hasKeyword()) {
+                String keyword = search.getKeyword();
+                if (keyword.length() == 1) {
+                    removeFrom(keywordUnigrams, keyword.charAt(0), searchId);
+                } else {
+                    removeFrom(keywordBigrams, bigram(keyword.charAt(0), keyword.charAt(1)), searchId);
+                }
+            }
+            unconditional.remove(searchId);
+            return Optional.of(search);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Optional<SavedSearch> findById(Long searchId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(searches.get(searchId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 저장 검색 목록 (id 오름차순).
+     */
+    List<SavedSearch> findByUserId(Long userId) {
+        lock.readLock().lock();
+        try {
+            Set<Long> owned = userIndex.get(userId);
+            List<SavedSearch> result = new ArrayList<>();
+            if (owned != null) {
+                owned.forEach(id -> result.add(searches.get(id)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 프로젝트와 일치하는 저장 검색 (id 오름차순). 저장 검색 전체가 아니라 프로젝트가 만족하는 술어의 posting 만 훑는다.
+     */
+    List<SavedSearch> match(Project project) {
+        String[] fields = {
+                ProjectKeywordIndex.normalize(project.getName()),
+                ProjectKeywordIndex.normalize(project.getOneLineIntro()),
+                ProjectKeywordIndex.normalize(project.getDescription())
+        };
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> satisfied = new HashMap<>();
+            for (Enum<?> value : facetValues(project)) {
+                Set<Long> ids = facetPostings.get(value);
+                if (ids != null) {
+                    ids.forEach(id -> satisfied.merge(id, 1, Integer::sum));
+                }
+            }
+            for (Long id : keywordCandidates(fields)) {
+                if (containsKeyword(fields, searches.get(id).getKeyword())) {
+                    satisfied.merge(id, 1, Integer::sum);
+                }
+            }
+
+            List<SavedSearch> matched = new ArrayList<>();
+            unconditional.forEach(id -> matched.add(searches.get(id)));
+            satisfied.forEach((id, count) -> {
+                SavedSearch search = searches.get(id);
+                if (count == predicateCount(search)) {
+                    matched.add(search);
+                }
+            });
+            matched.sort(Comparator.comparing(SavedSearch::getId));
+            return matched;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> keywordCandidates(String[] fields) {
+        Set<Long> candidates = new HashSet<>();
+        if (keywordUnigrams.isEmpty() && keywordBigrams.isEmpty()) {
+            return candidates;
+        }
+        for (String field : fields) {
+            for (int i = 0; i < field.length(); i++) {
+                Set<Long> unigram = keywordUnigrams.get(field.charAt(i));
+                if (unigram != null) {
+                    candidates.addAll(unigram);
+                }
+                Set<Long> bigram = i + 1 < field.length()
+                        ? keywordBigrams.get(bigram(field.charAt(i), field.charAt(i + 1)))
+                        : null;
+                if (bigram != null) {
+                    candidates.addAll(bigram);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private Set<Long> keywordPostings(String keyword) {
+        if (keyword.length() == 1) {
+            return keywordUnigrams.computeIfAbsent(keyword.charAt(0), key -> new HashSet<>());
+        }
+        return keywordBigrams.computeIfAbsent(bigram(keyword.charAt(0), keyword.charAt(1)), key -> new HashSet<>());
+    }
+
+    private static int predicateCount(SavedSearch search) {
+        return facetValues(search).size() + (search.hasKeyword() ? 1 : 0);
+    }
+
+    private static List<Enum<?>> facetValues(SavedSearch search) {
+        return nonNull(search.getStage(), search.getDomain(), search.getWorkStyle(), search.getRewardType());
+    }
+
+    private static List<Enum<?>> facetValues(Project project) {
+        return nonNull(project.getStage(), project.getDomain(), project.getWorkStyle(), project.getRewardType());
+    }
+
+    private static List<Enum<?>> nonNull(Enum<?>... values) {
+        List<Enum<?>> result = new ArrayList<>(values.length);
+        for (Enum<?> value : values) {
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Long>> postings, K key, Long searchId) {
+        Set<Long> ids = postings.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(searchId);
+        if (ids.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static boolean containsKeyword(String[] fields, String keyword) {
+        for (String field : fields) {
+            if (field.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
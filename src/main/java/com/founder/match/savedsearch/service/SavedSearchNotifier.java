@@ -0,0 +1,157 @@
+package com.founder.match.savedsearch.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.founder.match.savedsearch.dto.SavedSearchMatchResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 SSE 연결을 보관하고 저장 검색 일치 알림을 보낸다.
+ * 연결마다 크기가 정해진 대기열을 두고, 정해진 수의 전송 스레드가 대기열이 찬 연결을 하나씩 맡아 비운다.
+ * 한 연결은 동시에 한 스레드만 맡으므로 전송 작업 수는 연결 수를 넘지 않는다.
+ * 느린 연결은 자기 대기열만 채우고, 대기열이 넘치면 그 연결을 끊어 다른 구독자의 알림이 밀리지 않게 한다
+ * (EventSource 는 끊기면 다시 연결한다). 연결이 없는 동안의 알림은 보관하지 않는다.
+ */
+@Slf4j
+@Component
+public class SavedSearchNotifier implements DisposableBean {
+
+    public static final String EVENT_NAME = "project-match";
+
+    private final ConcurrentMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final ExecutorService sender;
+
+    public SavedSearchNotifier(@Value("${saved-search.sse-timeout-ms:1800000}") long timeoutMillis,
+                               @Value("${saved-search.queue-capacity:64}") int queueCapacity,
+                               @Value("${saved-search.sender-threads:4}") int senderThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "saved-search-notifier-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter, queueCapacity);
+        // 빈 목록 제거(unsubscribe)와 겹치지 않도록 추가도 compute 안에서 한다.
+        subscribers.compute(userId, (id, list) -> {
+            List<Subscriber> target = list == null ? new CopyOnWriteArrayList<>() : list;
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        log.debug("저장 검색 알림 구독: userId={}", userId);
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public boolean isSubscribed(Long userId) {
+        return subscribers.containsKey(userId);
+    }
+
+    public void send(Long userId, SavedSearchMatchResponse match) {
+        List<Subscriber> targets = subscribers.get(userId);
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.queue.offer(match)) {
+                log.warn("저장 검색 알림 대기열 초과 - 연결 종료: userId={}, capacity={}", userId, queueCapacity);
+                unsubscribe(subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+        subscribers.values().forEach(list -> list.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 더 보내지 않는다.
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        SavedSearchMatchResponse match;
+        while ((match = subscriber.queue.poll()) != null) {
+            try {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(String.valueOf(match.getProject().getId()))
+                        .data(match, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결은 컨테이너가 onError 로 정리하지만, 그 전에 다시 보내지 않도록 먼저 뺀다.
+                log.debug("저장 검색 알림 전송 실패 - 연결 제거: userId={}", subscriber.userId, e);
+                unsubscribe(subscriber);
+                subscriber.queue.clear();
+                break;
+            }
+        }
+        subscriber.draining.set(false);
+        // 플래그를 내리기 직전에 들어온 알림이 남지 않도록 다시 확인한다.
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SavedSearchMatchResponse> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.founder.match.savedsearch.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.dto.ProjectResponse;
+import com.founder.match.project.event.ProjectChangedEvent;
+import com.founder.match.project.event.ProjectsImportedEvent;
+import com.founder.match.project.search.ProjectKeywordIndex;
+import com.founder.match.savedsearch.domain.SavedSearch;
+import com.founder.match.savedsearch.dto.SavedSearchMatchResponse;
+import com.founder.match.savedsearch.dto.SavedSearchRequest;
+import com.founder.match.user.service.UserService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장 검색 도메인 서비스.
+ * 프로젝트 생성/수정/일괄 등록 이벤트를 받아 역색인으로 일치하는 저장 검색을 찾고, 그 사용자에게 SSE 로 알린다.
+ * 수정은 수정 전에는 일치하지 않던 검색에만 알리고, 본인 소유 프로젝트는 알리지 않는다.
+ * 저장 검색은 프로세스 메모리에만 보관한다.
+ */
+@Service
+@Slf4j
+public class SavedSearchService {
+
+    private final SavedSearchIndex index = new SavedSearchIndex();
+    private final AtomicLong sequence = new AtomicLong(0L);
+    private final UserService userService;
+    private final SavedSearchNotifier notifier;
+    private final int maxPerUser;
+
+    public SavedSearchService(UserService userService,
+                              SavedSearchNotifier notifier,
+                              @Value("${saved-search.max-per-user:20}") int maxPerUser) {
+        this.userService = userService;
+        this.notifier = notifier;
+        this.maxPerUser = maxPerUser;
+    }
+
+    public SavedSearch create(Long userId, SavedSearchRequest request) {
+        log.debug("저장 검색 등록 요청: userId={}", userId);
+        userService.getUser(userId);
+
+        String keyword = request.getKeyword() == null
+                ? null
+                : ProjectKeywordIndex.normalize(request.getKeyword()).trim();
+        SavedSearch search = SavedSearch.builder()
+                .id(sequence.incrementAndGet())
+                .userId(userId)
+                .stage(request.getStage())
+                .domain(request.getDomain())
+                .workStyle(request.getWorkStyle())
+                .rewardType(request.getRewardType())
+                .keyword(keyword == null || keyword.isEmpty() ? null : keyword)
+                .createdAt(LocalDateTime.now())
+                .build();
+        if (!index.add(search, maxPerUser)) {
+            throw new IllegalArgumentException("저장 검색은 사용자당 최대 " + maxPerUser + "개까지 등록할 수 있습니다.");
+        }
+        log.info("저장 검색 등록 완료: id={}, userId={}", search.getId(), userId);
+        return search;
+    }
+
+    /**
+     * 사용자의 저장 검색 목록 (id 오름차순).
+     */
+    public List<SavedSearch> getSavedSearches(Long userId) {
+        log.debug("저장 검색 목록 조회 요청: userId={}", userId);
+        return index.findByUserId(userId);
+    }
+
+    public void delete(Long userId, Long savedSearchId) {
+        log.debug("저장 검색 삭제 요청: userId={}, savedSearchId={}", userId, savedSearchId);
+        SavedSearch search = index.findById(savedSearchId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("저장 검색을 찾을 수 없습니다."));
+        index.remove(search.getId());
+    }
+
+    /**
+     * 사용자의 저장 검색에 새로 일치하는 프로젝트를 받는 SSE 연결.
+     */
+    public SseEmitter subscribe(Long userId) {
+        userService.getUser(userId);
+        return notifier.subscribe(userId);
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.isDeleted() || !notifier.hasSubscribers()) {
+            return;
+        }
+        List<SavedSearch> matched = index.match(event.getProject());
+        if (event.getPrevious() != null && !matched.isEmpty()) {
+            Set<Long> matchedBefore = index.match(event.getPrevious()).stream()
+                    .map(SavedSearch::getId)
+                    .collect(Collectors.toSet());
+            matched.removeIf(search -> matchedBefore.contains(search.getId()));
+        }
+        notifyMatches(event.getProject(), matched);
+    }
+
+    @EventListener
+    public void onProjectsImported(ProjectsImportedEvent event) {
+        if (!notifier.hasSubscribers()) {
+            return;
+        }
+        for (Project project : event.getProjects()) {
+            notifyMatches(project, index.match(project));
+        }
+    }
+
+    private void notifyMatches(Project project, List<SavedSearch> matched) {
+        Map<Long, List<Long>> searchIdsByUser = new LinkedHashMap<>();
+        for (SavedSearch search : matched) {
+            if (Objects.equals(search.getUserId(), project.getOwnerId()) || !notifier.isSubscribed(search.getUserId())) {
+                continue;
+            }
+            searchIdsByUser.computeIfAbsent(search.getUserId(), key -> new ArrayList<>()).add(search.getId());
+        }
+        if (searchIdsByUser.isEmpty()) {
+            return;
+        }
+        ProjectResponse response = ProjectResponse.from(project);
+        searchIdsByUser.forEach((userId, searchIds) ->
+                notifier.send(userId, new SavedSearchMatchResponse(searchIds, response)));
+        log.debug("저장 검색 알림: projectId={}, users={}", project.getId(), searchIdsByUser.size());
+    }
+}
@@ -10,8 +10,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.founder.match.common.page.CursorPage;
+import com.founder.match.common.web.NdjsonStreamer;
 import com.founder.match.user.domain.User;
 import com.founder.match.user.dto.UserCreateRequest;
 import com.founder.match.user.dto.UserLoginRequest;
@@ -29,9 +33,11 @@ import jakarta.validation.Valid;
 public class UserController {
 
     private final UserService userService;
+    private final NdjsonStreamer ndjsonStreamer;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, NdjsonStreamer ndjsonStreamer) {
         this.userService = userService;
+        this.ndjsonStreamer = ndjsonStreamer;
     }
 
     @PostMapping
@@ -57,6 +63,19 @@ public class UserController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<UserResponse>> getUserPage(@RequestParam(required = false) String cursor,
+                                                                @RequestParam int limit) {
+        return ResponseEntity.ok(userService.getUserPage(cursor, limit).map(UserResponse::from));
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        return ndjsonStreamer.stream(cursor -> userService
+                .getUserPage(cursor, NdjsonStreamer.CHUNK_SIZE)
+                .map(UserResponse::from));
+    }
+
     @PostMapping("/login")
     public ResponseEntity<UserLoginResponse> login(@Valid @RequestBody UserLoginRequest request) {
         User user = userService.login(request);
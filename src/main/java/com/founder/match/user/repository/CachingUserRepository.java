@@ -0,0 +1,138 @@
+package com.founder.match.user.repository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.founder.match.common.metrics.WithoutMethodMetrics;
+import com.founder.match.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * JDBC 저장소 앞단의 읽기 캐시 (jdbc 프로파일).
+ * id -> User 와 소문자 이메일 -> id 두 캐시를 W-TinyLFU(Caffeine) 로 유지하며,
+ * 같은 키를 동시에 놓친 요청은 한 번의 조회 결과를 함께 기다린다.
+ * 저장 시 id 와 새 이메일 항목을 무효화하고, 이메일이 바뀌어 남은 예전 항목은 조회 시 검증해 버린다.
+ * 두 캐시의 적중률은 cache_* 지표(users-by-id, user-ids-by-email)로 내보낸다.
+ * 미적중 시간은 뒤의 JDBC 저장소 메서드 지표에 잡히므로 이 빈에는 메서드 계측 프록시를 씌우지 않는다.
+ */
+@Primary
+@Repository
+@WithoutMethodMetrics
+@Profile("jdbc")
+public class CachingUserRepository implements UserRepository {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 192;
+    private static final int EMAIL_ENTRY_OVERHEAD_BYTES = 96;
+
+    private final UserRepository delegate;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> idsByEmail;
+
+    public CachingUserRepository(JdbcUserRepository delegate,
+                                 @Value("${repository.cache.max-bytes:67108864}") long maxBytes,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.usersById = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, User user) -> weigh(user))
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumWeight(maxBytes / 4)
+                .weigher((String email, Long id) -> EMAIL_ENTRY_OVERHEAD_BYTES + 2 * email.length())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users-by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "user-ids-by-email");
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        invalidate(saved);
+        return saved;
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> saved = delegate.saveAll(users);
+        saved.forEach(this::invalidate);
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return Optional.ofNullable(usersById.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        String emailKey = emailKey(email);
+        Long id = idsByEmail.get(emailKey, key -> delegate.findByEmail(key)
+                .map(user -> {
+                    usersById.put(user.getId(), user);
+                    return user.getId();
+                })
+                .orElse(null));
+        if (id == null) {
+            return Optional.empty();
+        }
+        Optional<User> user = findById(id);
+        if (user.isPresent() && emailKey(user.get().getEmail()).equals(emailKey)) {
+            return user;
+        }
+        // 이메일이 바뀐 사용자를 가리키는 예전 항목이다.
+        idsByEmail.invalidate(emailKey);
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<? super User> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public List<User> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    private void invalidate(User user) {
+        usersById.invalidate(user.getId());
+        idsByEmail.invalidate(emailKey(user.getEmail()));
+    }
+
+    private static int weigh(User user) {
+        return ENTRY_OVERHEAD_BYTES
+                + 2 * (length(user.getEmail())
+                + length(user.getPassword())
+                + length(user.getNickname())
+                + length(user.getContact()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,37 +3,105 @@ package com.founder.match.user.repository;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.common.metrics.WithoutMethodMetrics;
+import com.founder.match.persistence.RepositoryJournal;
 import com.founder.match.user.domain.User;
 
 /**
  * 스레드 안전한 인메모리 UserRepository 구현체.
+ * 소문자로 정규화한 이메일 -> id 보조 인덱스로 이메일 조회와 중복 검사를 처리한다.
+ * 본체는 compute 가 한 번만, 원자적으로 실행되는 ConcurrentHashMap 이고, 페이지 조회용 id 정렬 인덱스를 따로 둔다.
+ * 변경은 journal 과 변경 로그에 함께 기록하고, 생성 시 journal 의 스냅샷과 로그로 이전 상태를 복원한다.
  */
 @Repository
+@WithoutMethodMetrics
+@Profile("!jdbc")
 public class InMemoryUserRepository implements UserRepository {
 
     private final ConcurrentMap<Long, User> storage = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Long> ids = new ConcurrentSkipListSet<>();
+    private final ConcurrentMap<String, Long> emailIndex = new ConcurrentHashMap<>();
     private final AtomicLong sequence = new AtomicLong(0L);
+    private final RepositoryJournal<User> journal;
+    private final ChangeEventLog changeLog;
 
+    public InMemoryUserRepository(RepositoryJournal<User> journal, ChangeEventLog changeLog) {
+        this.journal = journal;
+        this.changeLog = changeLog;
+        journal.open(new RepositoryJournal.Replayer<>() {
+            @Override
+            public void onSave(User user) {
+                User previous = storage.put(user.getId(), user);
+                ids.add(user.getId());
+                if (previous != null) {
+                    emailIndex.remove(emailKey(previous.getEmail()), user.getId());
+                }
+                emailIndex.put(emailKey(user.getEmail()), user.getId());
+                sequence.accumulateAndGet(user.getId(), Math::max);
+            }
+
+            @Override
+            public void onDelete(long id) {
+                User removed = storage.remove(id);
+                ids.remove(id);
+                if (removed != null) {
+                    emailIndex.remove(emailKey(removed.getEmail()), id);
+                }
+            }
+        }, storage::values);
+    }
+
+    /**
+     * 이메일 인덱스 선점(putIfAbsent)으로 동시 가입 시에도 같은 이메일은 한 건만 저장된다.
+     */
     @Override
     public User save(User user) {
+        String emailKey = emailKey(user.getEmail());
         if (user.getId() == null) {
             long id = sequence.incrementAndGet();
+            claimEmail(emailKey, id);
             user.setId(id);
             if (user.getCreatedAt() == null) {
                 user.setCreatedAt(LocalDateTime.now());
             }
+            put(user);
+            return user;
+        }
+
+        claimEmail(emailKey, user.getId());
+        User previous = put(user);
+        if (previous != null) {
+            String previousKey = emailKey(previous.getEmail());
+            if (!previousKey.equals(emailKey)) {
+                emailIndex.remove(previousKey, user.getId());
+            }
         }
-        storage.put(user.getId(), user);
         return user;
     }
 
+    /**
+     * 묶음 전체를 한 번의 journal 쓰기로 묶어 fsync 를 한 번만 기다린다.
+     */
+    @Override
+    public List<User> saveAll(List<User> users) {
+        journal.write(() -> users.forEach(this::save));
+        return users;
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         return Optional.ofNullable(storage.get(id));
@@ -41,14 +109,64 @@ public class InMemoryUserRepository implements UserRepository {
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return storage.values().stream()
-                .filter(user -> user.getEmail().equalsIgnoreCase(email))
-                .findFirst();
+        if (email == null) {
+            return Optional.empty();
+        }
+        Long id = emailIndex.get(emailKey(email));
+        return id == null ? Optional.empty() : Optional.ofNullable(storage.get(id));
     }
 
     @Override
     public List<User> findAll() {
         return new ArrayList<>(storage.values());
     }
-}
 
+    @Override
+    public void forEach(Consumer<? super User> action) {
+        storage.values().forEach(action);
+    }
+
+    @Override
+    public List<User> findPage(Long afterId, int limit) {
+        NavigableSet<Long> tail = afterId == null ? ids : ids.tailSet(afterId, false);
+        List<User> page = new ArrayList<>(Math.min(limit, 64));
+        for (Long id : tail) {
+            if (page.size() >= limit) {
+                break;
+            }
+            User user = storage.get(id);
+            if (user != null) {
+                page.add(user);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 같은 id 에 대한 기록 순서가 저장 순서와 일치하도록 compute 안에서 journal 과 변경 로그에 남긴다.
+     * ConcurrentHashMap 의 compute 는 같은 키에 대해 한 번만, 원자적으로 실행되므로 기록이 중복되거나 뒤바뀌지 않는다.
+     * User 는 변경 가능한 객체라 변경 로그에는 복사본을 남긴다.
+     */
+    private User put(User user) {
+        User[] previous = new User[1];
+        journal.write(() -> storage.compute(user.getId(), (id, current) -> {
+            journal.appendSave(user);
+            changeLog.saved(ChangeEntityType.USER, id, user.toBuilder().build());
+            ids.add(id);
+            previous[0] = current;
+            return user;
+        }));
+        return previous[0];
+    }
+
+    private void claimEmail(String emailKey, Long id) {
+        Long owner = emailIndex.putIfAbsent(emailKey, id);
+        if (owner != null && !owner.equals(id)) {
+            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,250 @@
+package com.founder.match.user.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.user.domain.User;
+
+/**
+ * JDBC 기반 UserRepository (jdbc 프로파일).
+ * 이메일 중복은 email_key(소문자) unique 인덱스로 검사한다. 변경 로그에는 이 프로세스를 거친 쓰기만 남는다.
+ * 기존 행을 바꾸는 쓰기는 version 컬럼을 1 올리고 그 값을 변경 로그에 함께 남긴다. 잠금 없이 기록하므로 같은 id 의 기록 순서는
+ * 반영 순서와 다를 수 있지만, version 이 반영 순서를 나타낸다. 변경 로그에는 User 의 복사본을 남긴다.
+ */
+@Repository
+@Profile("jdbc")
+public class JdbcUserRepository implements UserRepository {
+
+    private static final String COLUMNS = "id, email, password, nickname, contact, created_at";
+    private static final String INSERT_SQL = "INSERT INTO users (email, email_key, password, nickname, contact, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE users SET email = ?, email_key = ?, password = ?, nickname = ?, "
+            + "contact = ?, created_at = ?, version = version + 1 WHERE id = ?";
+    private static final String VERSION_SQL = "SELECT version FROM users WHERE id = ?";
+    private static final String[] GENERATED_KEYS = {"id"};
+    private static final int FETCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private static final RowMapper<User> ROW_MAPPER = JdbcUserRepository::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ChangeEventLog changeLog;
+
+    public JdbcUserRepository(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${repository.jdbc.batch-size:500}") int batchSize,
+                              ChangeEventLog changeLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public User save(User user) {
+        if (user.getCreatedAt() == null) {
+            user.setCreatedAt(LocalDateTime.now());
+        }
+        try {
+            if (user.getId() == null) {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(INSERT_SQL, GENERATED_KEYS);
+                    bindColumns(ps, user);
+                    return ps;
+                }, keyHolder);
+                user.setId(keyHolder.getKeyAs(Long.class));
+                changeLog.saved(ChangeEntityType.USER, user.getId(), 0L, user.toBuilder().build());
+                return user;
+            }
+            // 같은 트랜잭션 안에서 읽어야 올린 version 이 다른 쓰기와 섞이지 않는다.
+            Long version = transactionTemplate.execute(status -> {
+                int updatedRows = jdbcTemplate.update(UPDATE_SQL, ps -> {
+                    bindColumns(ps, user);
+                    ps.setLong(7, user.getId());
+                });
+                return updatedRows == 0 ? null : jdbcTemplate.queryForObject(VERSION_SQL, Long.class, user.getId());
+            });
+            if (version != null) {
+                changeLog.saved(ChangeEntityType.USER, user.getId(), version, user.toBuilder().build());
+            }
+            return user;
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        }
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> inserts = new ArrayList<>();
+        List<User> updates = new ArrayList<>();
+        for (User user : users) {
+            if (user.getCreatedAt() == null) {
+                user.setCreatedAt(LocalDateTime.now());
+            }
+            (user.getId() == null ? inserts : updates).add(user);
+        }
+
+        try {
+            for (int from = 0; from < inserts.size(); from += batchSize) {
+                List<User> chunk = inserts.subList(from, Math.min(from + batchSize, inserts.size()));
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, GENERATED_KEYS),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                bindColumns(ps, chunk.get(i));
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        }, keyHolder);
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunk.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+                    changeLog.saved(ChangeEntityType.USER, chunk.get(i).getId(), 0L, chunk.get(i).toBuilder().build());
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                Map<Long, Long> versions = transactionTemplate.execute(status -> {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, updates, batchSize, (ps, user) -> {
+                        bindColumns(ps, user);
+                        ps.setLong(7, user.getId());
+                    });
+                    return currentVersions(updates);
+                });
+                // 같은 id 가 여러 번 있으면 뒤의 것이 마지막 version 을 갖고, 앞의 것은 하나씩 작은 version 을 갖는다.
+                long[] assigned = new long[updates.size()];
+                for (int i = updates.size() - 1; i >= 0; i--) {
+                    Long version = versions.get(updates.get(i).getId());
+                    assigned[i] = version == null ? -1L : version;
+                    if (version != null) {
+                        versions.put(updates.get(i).getId(), version - 1);
+                    }
+                }
+                for (int i = 0; i < assigned.length; i++) {
+                    if (assigned[i] >= 0) {
+                        User user = updates.get(i);
+                        changeLog.saved(ChangeEntityType.USER, user.getId(), assigned[i], user.toBuilder().build());
+                    }
+                }
+            }
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        }
+        return users;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users WHERE id = ?", ROW_MAPPER, id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users WHERE email_key = ?", ROW_MAPPER, emailKey(email))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<User> findAll() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users ORDER BY id", ROW_MAPPER);
+    }
+
+    /**
+     * 결과를 FETCH_SIZE 행씩 가져오며 한 행씩 넘긴다.
+     */
+    @Override
+    public void forEach(Consumer<? super User> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement("SELECT " + COLUMNS + " FROM users ORDER BY id");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(mapRow(rs, 0)));
+    }
+
+    @Override
+    public List<User> findPage(Long afterId, int limit) {
+        if (afterId == null) {
+            return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users ORDER BY id LIMIT ?", ROW_MAPPER, limit);
+        }
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * 지금 트랜잭션에서 본 id 별 version. IN_CLAUSE_SIZE 개씩 나눠 읽는다.
+     */
+    private Map<Long, Long> currentVersions(List<User> users) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (int from = 0; from < users.size(); from += IN_CLAUSE_SIZE) {
+            List<User> chunk = users.subList(from, Math.min(users.size(), from + IN_CLAUSE_SIZE));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id, version FROM users WHERE id IN (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> versions.put(rs.getLong(1), rs.getLong(2)),
+                    chunk.stream().map(User::getId).toArray());
+        }
+        return versions;
+    }
+
+    private static void bindColumns(PreparedStatement ps, User user) throws SQLException {
+        ps.setString(1, user.getEmail());
+        ps.setString(2, emailKey(user.getEmail()));
+        ps.setString(3, user.getPassword());
+        ps.setString(4, user.getNickname());
+        ps.setString(5, user.getContact());
+        ps.setTimestamp(6, Timestamp.valueOf(user.getCreatedAt()));
+    }
+
+    private static User mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return User.builder()
+                .id(rs.getLong("id"))
+                .email(rs.getString("email"))
+                .password(rs.getString("password"))
+                .nickname(rs.getString("nickname"))
+                .contact(rs.getString("contact"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .build();
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
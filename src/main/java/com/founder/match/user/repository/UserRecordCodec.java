@@ -0,0 +1,34 @@
+package com.founder.match.user.repository;
+
+import com.founder.match.persistence.RecordCodec;
+import com.founder.match.persistence.RecordReader;
+import com.founder.match.persistence.RecordWriter;
+import com.founder.match.user.domain.User;
+
+/**
+ * User 의 WAL 레코드 형식.
+ */
+public class UserRecordCodec implements RecordCodec<User> {
+
+    @Override
+    public void write(User user, RecordWriter writer) {
+        writer.writeLong(user.getId());
+        writer.writeString(user.getEmail());
+        writer.writeString(user.getPassword());
+        writer.writeString(user.getNickname());
+        writer.writeString(user.getContact());
+        writer.writeDateTime(user.getCreatedAt());
+    }
+
+    @Override
+    public User read(RecordReader reader) {
+        return User.builder()
+                .id(reader.readLong())
+                .email(reader.readString())
+                .password(reader.readString())
+                .nickname(reader.readString())
+                .contact(reader.readString())
+                .createdAt(reader.readDateTime())
+                .build();
+    }
+}
@@ -2,17 +2,37 @@ package com.founder.match.user.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.founder.match.user.domain.User;
 
 /**
  * User 저장소 인터페이스.
- * 지금은 인메모리 구현을 사용하지만, 추후 JPA로 교체할 예정이다.
+ * 기본은 인메모리 구현이며, jdbc 프로파일에서는 JDBC 구현을 사용한다.
  */
 public interface UserRepository {
+    /**
+     * 다른 사용자가 이미 쓰고 있는 이메일(대소문자 무시)이면 IllegalArgumentException을 던진다.
+     */
     User save(User user);
+
+    /**
+     * 여러 건을 한 번에 저장한다. 구현체는 가능한 경우 batch 로 처리한다.
+     */
+    List<User> saveAll(List<User> users);
+
     Optional<User> findById(Long id);
     Optional<User> findByEmail(String email);
     List<User> findAll();
+
+    /**
+     * 모든 항목을 목록으로 복사하지 않고 차례로 넘긴다. 순회 중의 변경은 반영될 수도, 안 될 수도 있다.
+     */
+    void forEach(Consumer<? super User> action);
+
+    /**
+     * afterId 보다 큰 id를 오름차순으로 최대 limit 건 조회한다.
+     */
+    List<User> findPage(Long afterId, int limit);
 }
 
@@ -0,0 +1,102 @@
+package com.founder.match.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.founder.match.common.web.ServiceBusyException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * bcrypt 비밀번호 해시/검증기.
+ * CPU 를 많이 쓰는 해시 계산은 크기가 정해진 전용 스레드 풀에서만 실행해 동시에 도는 계산 수를 코어 수 안으로 묶고,
+ * 대기열까지 가득 차면 바로 ServiceBusyException(503) 으로 거절한다.
+ * 이전 버전에서 평문으로 저장된 비밀번호도 검증할 수 있으며, 이 경우와 cost 가 바뀐 경우 needsRehash 가 true 다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private static final String BCRYPT_PREFIX = "$2";
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(@Value("${security.password.bcrypt-cost:10}") int cost,
+                          @Value("${security.password.threads:0}") int threads,
+                          @Value("${security.password.queue-capacity:256}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.encoder = new BCryptPasswordEncoder(cost);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("비밀번호 해시 풀 초기화: cost={}, threads={}, queueCapacity={}", cost, poolSize, queueCapacity);
+    }
+
+    public String hash(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (storedPassword == null) {
+            return false;
+        }
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return submit(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    /**
+     * 평문으로 저장됐거나 현재 설정보다 낮은 cost 로 해시된 경우 true.
+     */
+    public boolean needsRehash(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static boolean isHashed(String storedPassword) {
+        return storedPassword.startsWith(BCRYPT_PREFIX);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 풀 포화 - 요청 거절: active={}, queued={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 확인 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -4,6 +4,10 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.founder.match.common.concurrent.StripedLocks;
+import com.founder.match.common.page.CursorPage;
+import com.founder.match.common.page.Cursors;
+import com.founder.match.persistence.DurabilityScope;
 import com.founder.match.user.domain.User;
 import com.founder.match.user.dto.UserCreateRequest;
 import com.founder.match.user.dto.UserLoginRequest;
@@ -19,17 +23,22 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    /** 같은 사용자에 대한 읽고-바꾸는 쓰기를 줄 세운다. */
+    private final StripedLocks userLocks = new StripedLocks(64);
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
     }
 
     /**
-     * 회원 생성.
+     * 회원 생성. 비밀번호는 bcrypt 해시로 바꿔 저장한다.
      */
     public User createUser(UserCreateRequest request) {
         log.debug("회원 생성 요청: email={}", request.getEmail());
 
+        // 빠른 실패용 사전 검사. 동시 가입 경합은 저장소의 이메일 인덱스가 최종적으로 막는다.
         userRepository.findByEmail(request.getEmail())
                 .ifPresent(user -> {
                     log.warn("회원 생성 실패 - 중복 이메일: {}", request.getEmail());
@@ -38,7 +47,7 @@ public class UserService {
 
         User newUser = User.create(
                 request.getEmail(),
-                request.getPassword(),
+                passwordHasher.hash(request.getPassword()),
                 request.getNickname(),
                 request.getContact()
         );
@@ -69,7 +78,18 @@ public class UserService {
     }
 
     /**
-     * 단순 이메일/비밀번호 검사 방식의 로그인.
+     * id 기준 keyset 페이지 조회.
+     */
+    public CursorPage<User> getUserPage(String cursor, int limit) {
+        log.debug("사용자 페이지 조회 요청: cursor={}, limit={}", cursor, limit);
+        CursorPage.checkLimit(limit);
+        List<User> fetched = userRepository.findPage(Cursors.decode(cursor), limit + 1);
+        return CursorPage.of(fetched, limit, User::getId);
+    }
+
+    /**
+     * 이메일/비밀번호 검사 방식의 로그인.
+     * 저장된 비밀번호가 평문이거나 현재 설정보다 낮은 cost 로 해시돼 있으면 성공한 김에 다시 해시해 저장한다.
      */
     public User login(UserLoginRequest request) {
         log.debug("로그인 시도: email={}", request.getEmail());
@@ -80,13 +100,37 @@ public class UserService {
                     return new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다.");
                 });
 
-        if (!user.getPassword().equals(request.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             log.warn("로그인 실패 - 비밀번호 불일치: {}", request.getEmail());
             throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user = rehash(user, passwordHasher.hash(request.getPassword()));
+        }
+
         log.info("로그인 성공: userId={}, email={}", user.getId(), user.getEmail());
         return user;
     }
+
+    /**
+     * 검사한 해시가 아직 저장돼 있을 때만 새 해시를 담은 사본으로 교체한다.
+     * 저장소와 캐시가 들고 있는 인스턴스는 바꾸지 않으며, 그 사이 다른 쓰기가 끼었으면 그 값을 그대로 둔다.
+     */
+    private User rehash(User checked, String rehashed) {
+        Long userId = checked.getId();
+        return DurabilityScope.run(() -> userLocks.locked(userId, () -> {
+            User current = userRepository.findById(userId).orElse(null);
+            if (current == null) {
+                return checked;
+            }
+            if (!checked.getPassword().equals(current.getPassword())) {
+                return current;
+            }
+            User saved = userRepository.save(current.toBuilder().password(rehashed).build());
+            log.info("비밀번호 재해시: userId={}", userId);
+            return saved;
+        }));
+    }
 }
 
@@ -0,0 +1,53 @@
+-- jdbc 프로파일용 스키마 (H2 문법)
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email       VARCHAR(320) NOT NULL,
+    email_key   VARCHAR(320) NOT NULL,
+    password    VARCHAR(255),
+    nickname    VARCHAR(100),
+    contact     VARCHAR(100),
+    created_at  TIMESTAMP,
+    version     BIGINT NOT NULL DEFAULT 0
+);
+-- 이메일 중복 검사/조회는 소문자로 정규화한 email_key 로 한다.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_key ON users (email_key);
+
+CREATE TABLE IF NOT EXISTS projects (
+    id                BIGINT AUTO_INCREMENT PRIMARY KEY,
+    owner_id          BIGINT,
+    name              VARCHAR(200),
+    one_line_intro    VARCHAR(500),
+    description       CLOB,
+    stage             VARCHAR(30),
+    project_domain    VARCHAR(30),
+    work_style        VARCHAR(30),
+    reward_type       VARCHAR(30),
+    expected_duration VARCHAR(100),
+    created_at        TIMESTAMP,
+    updated_at        TIMESTAMP,
+    version           BIGINT NOT NULL DEFAULT 0
+);
+CREATE INDEX IF NOT EXISTS ix_projects_owner_id ON projects (owner_id, id);
+-- 필터 + id keyset 페이지네이션을 인덱스만으로 처리할 수 있도록 (컬럼, id) 순으로 둔다.
+CREATE INDEX IF NOT EXISTS ix_projects_stage ON projects (stage, id);
+CREATE INDEX IF NOT EXISTS ix_projects_domain ON projects (project_domain, id);
+CREATE INDEX IF NOT EXISTS ix_projects_work_style ON projects (work_style, id);
+CREATE INDEX IF NOT EXISTS ix_projects_reward_type ON projects (reward_type, id);
+-- 최근순 정렬(sort=createdAt/updatedAt)의 keyset 페이지네이션은 ORDER BY 시각 DESC, id 순서 그대로 인덱스를 읽는다.
+CREATE INDEX IF NOT EXISTS ix_projects_created_at ON projects (created_at DESC, id);
+CREATE INDEX IF NOT EXISTS ix_projects_updated_at ON projects (updated_at DESC, id);
+
+CREATE TABLE IF NOT EXISTS founder_profiles (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id      BIGINT NOT NULL,
+    role         VARCHAR(100),
+    skills       VARCHAR(4000),
+    interests    VARCHAR(4000),
+    availability VARCHAR(200),
+    bio          CLOB,
+    created_at   TIMESTAMP,
+    updated_at   TIMESTAMP,
+    version      BIGINT NOT NULL DEFAULT 0
+);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_founder_profiles_user_id ON founder_profiles (user_id);
@@ -0,0 +1,89 @@
+package com.founder.match.change.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.domain.ChangeEvent;
+import com.founder.match.change.domain.ChangeOperation;
+
+class ChangeEventLogTest {
+
+    private final ChangeEventLog changeLog = new ChangeEventLog(8);
+
+    @AfterEach
+    void tearDown() {
+        changeLog.destroy();
+    }
+
+    @Test
+    void readsInOffsetOrderUpToLimit() {
+        for (long id = 1; id <= 5; id++) {
+            changeLog.saved(ChangeEntityType.PROJECT, id, "p" + id);
+        }
+        changeLog.deleted(ChangeEntityType.PROJECT, 2);
+
+        List<ChangeEvent> events = changeLog.read(3, 10);
+        assertThat(events).extracting(ChangeEvent::getOffset).containsExactly(3L, 4L, 5L);
+        assertThat(events.get(2).getOperation()).isEqualTo(ChangeOperation.DELETE);
+        assertThat(changeLog.read(0, 2)).extracting(ChangeEvent::getEntityId).containsExactly(1L, 2L);
+        assertThat(changeLog.read(changeLog.head(), 10)).isEmpty();
+    }
+
+    @Test
+    void wrappedOffsetsAreTruncatedButRecentOnesStayReadable() {
+        for (long id = 0; id < 20; id++) {
+            changeLog.saved(ChangeEntityType.USER, id, null);
+        }
+
+        assertThat(changeLog.head()).isEqualTo(20);
+        assertThat(changeLog.read(12, 100)).extracting(ChangeEvent::getOffset)
+                .containsExactly(12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L);
+        assertThatThrownBy(() -> changeLog.read(11, 100)).isInstanceOf(ChangeLogTruncatedException.class);
+        assertThatThrownBy(() -> changeLog.read(0, 100)).isInstanceOf(ChangeLogTruncatedException.class);
+    }
+
+    @Test
+    void rejectsOffsetsOutsideTheLog() {
+        changeLog.saved(ChangeEntityType.USER, 1, null);
+
+        assertThatThrownBy(() -> changeLog.read(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> changeLog.read(5, 10)).isInstanceOf(ChangeLogTruncatedException.class);
+    }
+
+    @Test
+    void wakesWaiterWhenItsOffsetIsWritten() throws InterruptedException {
+        CountDownLatch woken = new CountDownLatch(1);
+        changeLog.onAvailable(changeLog.head(), woken::countDown);
+        assertThat(woken.await(50, TimeUnit.MILLISECONDS)).isFalse();
+
+        changeLog.saved(ChangeEntityType.PROFILE, 3, null);
+        assertThat(woken.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void cancelledWaiterIsNotCalled() throws InterruptedException {
+        CountDownLatch woken = new CountDownLatch(1);
+        changeLog.onAvailable(changeLog.head(), woken::countDown).run();
+
+        changeLog.saved(ChangeEntityType.PROFILE, 3, null);
+        assertThat(woken.await(200, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    @Test
+    void versionDefaultsToOffsetUnlessTheRepositoryGivesOne() {
+        changeLog.saved(ChangeEntityType.PROJECT, 7, "p7");
+        changeLog.saved(ChangeEntityType.PROJECT, 7, 12L, "p7-v12");
+        changeLog.deleted(ChangeEntityType.PROJECT, 7, 13L);
+        changeLog.deleted(ChangeEntityType.PROJECT, 8);
+
+        assertThat(changeLog.read(0, 10)).extracting(ChangeEvent::getVersion).containsExactly(0L, 12L, 13L, 3L);
+    }
+}
@@ -0,0 +1,56 @@
+package com.founder.match.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.stereotype.Repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MethodMetricsPostProcessorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final MethodMetricsPostProcessor postProcessor = new MethodMetricsPostProcessor(
+            new StaticListableBeanFactory(Map.of("meterRegistry", registry)).getBeanProvider(MeterRegistry.class),
+            true);
+
+    @Test
+    void repositoryIsWrappedAndRecordsLookups() {
+        Object bean = postProcessor.postProcessAfterInitialization(new TimedRepository(), "timedRepository");
+
+        assertThat(AopUtils.isAopProxy(bean)).isTrue();
+        ((TimedRepository) bean).find(1L);
+        assertThat(registry.get(MethodMetricsInterceptor.LOOKUPS).tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void beanMarkedWithoutMethodMetricsIsLeftAlone() {
+        UntimedRepository repository = new UntimedRepository();
+
+        assertThat(postProcessor.postProcessAfterInitialization(repository, "untimedRepository")).isSameAs(repository);
+    }
+
+    @Repository
+    static class TimedRepository {
+
+        public Optional<String> find(long id) {
+            return Optional.of("value-" + id);
+        }
+    }
+
+    @Repository
+    @WithoutMethodMetrics
+    static class UntimedRepository {
+
+        public Optional<String> find(long id) {
+            return Optional.of("value-" + id);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.founder.match.common.page;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class CursorsTest {
+
+    @Test
+    void roundTripsKey() {
+        assertThat(Cursors.decode(Cursors.encode(42L))).isEqualTo(42L);
+        assertThat(Cursors.decode(null)).isNull();
+    }
+
+    @Test
+    void rejectsNegativeKey() {
+        assertThatThrownBy(() -> Cursors.decode(Cursors.encode(-5L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsKeyAboveMax() {
+        String cursor = Cursors.encode((long) Integer.MAX_VALUE + 1);
+        assertThat(Cursors.decode(cursor)).isEqualTo((long) Integer.MAX_VALUE + 1);
+        assertThatThrownBy(() -> Cursors.decode(cursor, Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        String notANumber = Base64.getUrlEncoder().encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> Cursors.decode(notANumber)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cursors.decode("***")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
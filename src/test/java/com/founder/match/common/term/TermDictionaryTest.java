@@ -0,0 +1,44 @@
+package com.founder.match.common.term;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TermDictionaryTest {
+
+    @Test
+    void normalizedSpellingsShareOneId() {
+        TermDictionary tags = new TermDictionary(10);
+
+        int id = tags.intern("Java");
+
+        assertThat(tags.intern(" java ")).isEqualTo(id);
+        assertThat(tags.intern("JAVA")).isEqualTo(id);
+        assertThat(tags.term(id)).isEqualTo("java");
+        assertThat(tags.size()).isEqualTo(1);
+    }
+
+    @Test
+    void newTagsFromRequestsAreRejectedOnceFullButExistingOnesStillResolve() {
+        TermDictionary tags = new TermDictionary(2);
+        tags.internAll(List.of("java", "go"));
+
+        assertThatThrownBy(() -> tags.internAll(List.of("java", "rust")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(tags.terms(tags.internAll(List.of("Go", "Java")))).containsExactly("go", "java");
+        assertThat(tags.size()).isEqualTo(2);
+    }
+
+    @Test
+    void restoredTagsIgnoreTheLimit() {
+        TermDictionary tags = new TermDictionary(1);
+        tags.intern("java");
+
+        int[] restored = tags.restoreAll(List.of("Rust", "java"));
+
+        assertThat(tags.terms(restored)).containsExactly("rust", "java");
+    }
+}
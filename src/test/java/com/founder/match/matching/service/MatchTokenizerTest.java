@@ -0,0 +1,27 @@
+package com.founder.match.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MatchTokenizerTest {
+
+    @Test
+    void tagTermsMatchDocumentTermsIncludingHangulWithParticles() {
+        int[] tags = MatchTokenizer.tagTerms(List.of("Java", "마케팅"));
+        int[] document = MatchTokenizer.documentTerms("Spring/JAVA 백엔드", "그로스 마케팅을 함께할 분");
+
+        assertThat(document).contains(tags);
+        assertThat(MatchTokenizer.tagTerms(List.of("c++"))).doesNotContain(MatchTokenizer.tagTerms(List.of("c#")));
+    }
+
+    @Test
+    void termsAreSortedAndUnique() {
+        int[] document = MatchTokenizer.documentTerms("rust rust Rust", "go");
+
+        assertThat(document).hasSize(2).isSorted();
+        assertThat(MatchTokenizer.tagTerms(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,129 @@
+package com.founder.match.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.common.term.TermDictionary;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.event.FounderProfileChangedEvent;
+import com.founder.match.profile.event.FounderProfilesImportedEvent;
+import com.founder.match.profile.repository.InMemoryFounderProfileRepository;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+import com.founder.match.project.event.ProjectChangedEvent;
+import com.founder.match.project.event.ProjectsImportedEvent;
+import com.founder.match.project.repository.InMemoryProjectRepository;
+
+class MatchingIndexTest {
+
+    private static final int K = 5;
+    private static final String[] SKILLS = {"java", "spring", "react", "python", "go", "figma", "sales", "seo"};
+    private static final String[] INTERESTS = {"핀테크", "헬스케어", "교육", "게임", "커머스", "여행"};
+    private static final String[] AVAILABILITIES = {"원격 위주", "주 3일 출근", "하이브리드", "주말"};
+
+    private final TermDictionary tags = new TermDictionary(1000);
+    private final MatchingIndex index = new MatchingIndex(new RecommendationCache(0, 1 << 20),
+            new InMemoryProjectRepository(RepositoryJournal.disabled(), new ChangeEventLog(1024)),
+            new InMemoryFounderProfileRepository(RepositoryJournal.disabled(), new ChangeEventLog(1024)));
+
+    @Test
+    void skippingFacetBucketsGivesTheSameRankingAsAFullScan() {
+        SplittableRandom random = new SplittableRandom(7L);
+        List<Project> projects = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            projects.add(project(random, id));
+        }
+        List<FounderProfile> profiles = new ArrayList<>();
+        for (long userId = 1; userId <= 100; userId++) {
+            profiles.add(profile(random, userId));
+        }
+        index.onProjectsImported(new ProjectsImportedEvent(projects));
+        index.onProfilesImported(new FounderProfilesImportedEvent(profiles));
+
+        // 수정으로 묶음을 옮기거나 삭제된 후보도 반영돼야 한다.
+        for (int i = 0; i < 50; i++) {
+            Project moved = project(random, 1 + random.nextInt(300));
+            projects.set(Math.toIntExact(moved.getId() - 1), moved);
+            index.onProjectChanged(ProjectChangedEvent.saved(moved));
+            FounderProfile changed = profile(random, 1 + random.nextInt(100));
+            profiles.set(Math.toIntExact(changed.getUserId() - 1), changed);
+            index.onProfileChanged(FounderProfileChangedEvent.saved(changed));
+        }
+        index.onProjectChanged(ProjectChangedEvent.deleted(3L));
+        projects.remove(2);
+
+        for (FounderProfile profile : profiles) {
+            assertThat(index.topProjects(profile.getUserId(), K)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(scanProjects(ProfileVector.of(profile), projects));
+        }
+        for (Project project : projects) {
+            assertThat(index.topFounders(project.getId(), K)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(scanFounders(ProjectVector.of(project), profiles));
+        }
+    }
+
+    private static List<MatchResult> scanProjects(ProfileVector profile, List<Project> projects) {
+        TopK topK = new TopK(K);
+        for (Project project : projects) {
+            ProjectVector vector = ProjectVector.of(project);
+            double score = MatchScorer.score(profile, vector);
+            if (vector.ownerId != profile.userId && score > 0) {
+                topK.offer(vector.projectId, score);
+            }
+        }
+        return topK.toSortedList();
+    }
+
+    private static List<MatchResult> scanFounders(ProjectVector project, List<FounderProfile> profiles) {
+        TopK topK = new TopK(K);
+        for (FounderProfile profile : profiles) {
+            ProfileVector vector = ProfileVector.of(profile);
+            double score = MatchScorer.score(vector, project);
+            if (vector.userId != project.ownerId && score > 0) {
+                topK.offer(vector.userId, score);
+            }
+        }
+        return topK.toSortedList();
+    }
+
+    private Project project(SplittableRandom random, long id) {
+        ProjectDomain[] domains = ProjectDomain.values();
+        WorkStyle[] workStyles = WorkStyle.values();
+        return Project.builder()
+                .id(id)
+                .ownerId(1L + random.nextInt(100))
+                .name("project " + id)
+                .oneLineIntro(pick(random, SKILLS, 2) + " " + pick(random, INTERESTS, 1))
+                .description(pick(random, SKILLS, 3))
+                .stage(ProjectStage.IDEA)
+                .domain(domains[random.nextInt(domains.length)])
+                .workStyle(workStyles[random.nextInt(workStyles.length)])
+                .rewardType(RewardType.EQUITY)
+                .build();
+    }
+
+    private FounderProfile profile(SplittableRandom random, long userId) {
+        return FounderProfile.create(tags, userId, "CTO",
+                List.of(pick(random, SKILLS, 1), pick(random, SKILLS, 1)),
+                List.of(pick(random, INTERESTS, 1)),
+                AVAILABILITIES[random.nextInt(AVAILABILITIES.length)], "bio");
+    }
+
+    private static String pick(SplittableRandom random, String[] words, int count) {
+        List<String> picked = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            picked.add(words[random.nextInt(words.length)]);
+        }
+        return String.join(" ", picked);
+    }
+}
@@ -0,0 +1,24 @@
+package com.founder.match.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.WorkStyle;
+
+class ProjectVectorTest {
+
+    @Test
+    void projectWithoutOwnerGetsSentinelOwnerId() {
+        Project project = Project.builder()
+                .id(1L)
+                .name("name")
+                .domain(ProjectDomain.FINTECH)
+                .workStyle(WorkStyle.REMOTE)
+                .build();
+
+        assertThat(ProjectVector.of(project).ownerId).isEqualTo(ProjectVector.NO_OWNER);
+    }
+}
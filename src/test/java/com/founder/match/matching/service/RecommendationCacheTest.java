@@ -0,0 +1,83 @@
+package com.founder.match.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.common.term.TermDictionary;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.profile.domain.FounderProfile;
+import com.founder.match.profile.event.FounderProfileChangedEvent;
+import com.founder.match.profile.repository.InMemoryFounderProfileRepository;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+import com.founder.match.project.event.ProjectChangedEvent;
+import com.founder.match.project.event.ProjectsImportedEvent;
+import com.founder.match.project.repository.InMemoryProjectRepository;
+
+class RecommendationCacheTest {
+
+    private static final int TOP_N = 3;
+
+    private final RecommendationCache cache = new RecommendationCache(TOP_N, 1 << 20);
+    private final MatchingIndex index = new MatchingIndex(cache,
+            new InMemoryProjectRepository(RepositoryJournal.disabled(), new ChangeEventLog(1024)),
+            new InMemoryFounderProfileRepository(RepositoryJournal.disabled(), new ChangeEventLog(1024)));
+
+    @Test
+    void cachedRankingCatchesUpWithCandidateChangesOnRead() {
+        index.onProfileChanged(FounderProfileChangedEvent.saved(FounderProfile.create(new TermDictionary(1000),
+                1L, "CTO", List.of("Java", "Spring"), List.of("핀테크"), "원격 가능", "bio")));
+        for (long id = 10; id < 16; id++) {
+            saveProject(id, "project " + id);
+        }
+        assertMatchesFreshRanking();
+        long rebuilds = cache.stats().getRebuilds();
+
+        saveProject(20L, "java spring 핀테크 결제");
+        assertMatchesFreshRanking();
+        saveProject(11L, "java");
+        assertMatchesFreshRanking();
+        index.onProjectChanged(ProjectChangedEvent.deleted(14L));
+        assertMatchesFreshRanking();
+
+        assertThat(cache.stats().getRebuilds()).isEqualTo(rebuilds);
+        assertThat(cache.stats().getIncrementalUpdates()).isGreaterThanOrEqualTo(3);
+
+        index.onProjectsImported(new ProjectsImportedEvent(List.of(project(30L, "spring"))));
+        assertMatchesFreshRanking();
+        assertThat(cache.stats().getRebuilds()).isEqualTo(rebuilds + 1);
+    }
+
+    private void assertMatchesFreshRanking() {
+        List<MatchResult> cached = index.topProjects(1L, TOP_N);
+        // top-n 보다 많이 요청하면 캐시를 거치지 않고 새로 계산한다.
+        List<MatchResult> fresh = index.topProjects(1L, TOP_N + 10).subList(0, TOP_N);
+        assertThat(cached).extracting(MatchResult::getTargetId)
+                .containsExactlyElementsOf(fresh.stream().map(MatchResult::getTargetId).toList());
+    }
+
+    private void saveProject(long id, String description) {
+        index.onProjectChanged(ProjectChangedEvent.saved(project(id, description)));
+    }
+
+    private static Project project(long id, String description) {
+        return Project.builder()
+                .id(id)
+                .ownerId(2L)
+                .name("name")
+                .oneLineIntro("intro")
+                .description(description)
+                .stage(ProjectStage.IDEA)
+                .domain(id % 2 == 0 ? ProjectDomain.FINTECH : ProjectDomain.HEALTHCARE)
+                .workStyle(WorkStyle.REMOTE)
+                .rewardType(RewardType.EQUITY)
+                .build();
+    }
+}
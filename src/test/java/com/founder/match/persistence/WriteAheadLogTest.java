@@ -0,0 +1,219 @@
+package com.founder.match.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    private static final String NAME = "entries";
+    private static final long MAX_PENDING_BYTES = 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeReturnsOnlyAfterRecordsAreOnDisk() throws IOException {
+        Map<Long, String> state = new ConcurrentHashMap<>();
+        WriteAheadLog<Entry> wal = open(state, MAX_PENDING_BYTES);
+        wal.write(() -> wal.appendSave(new Entry(1, "first")));
+
+        // close 없이 파일만 다시 읽어도 방금 쓴 레코드가 보여야 한다.
+        assertThat(Files.size(logFile(0))).isPositive();
+        Map<Long, String> replayed = recover();
+        assertThat(replayed).containsExactly(Map.entry(1L, "first"));
+        wal.close();
+    }
+
+    @Test
+    void writeInsideDurabilityScopeIsOnDiskWhenScopeReturns() {
+        Map<Long, String> state = new ConcurrentHashMap<>();
+        WriteAheadLog<Entry> wal = open(state, MAX_PENDING_BYTES);
+
+        String result = DurabilityScope.run(() -> {
+            wal.write(() -> wal.appendSave(new Entry(1, "first")));
+            wal.write(() -> wal.appendSave(new Entry(2, "second")));
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(recover()).containsOnlyKeys(1L, 2L);
+        wal.close();
+    }
+
+    @Test
+    void intervalModeReturnsBeforeFsyncAndFlushesOnTheNextTick() throws Exception {
+        Map<Long, String> state = new ConcurrentHashMap<>();
+        WriteAheadLog<Entry> wal = open(state, MAX_PENDING_BYTES, WalDurability.INTERVAL, 20);
+        wal.write(() -> wal.appendSave(new Entry(1, "first")));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Files.size(logFile(0)) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(recover()).containsOnlyKeys(1L);
+        wal.close();
+    }
+
+    @Test
+    void tornTailIsDiscardedAndLogStaysAppendable() throws IOException {
+        Map<Long, String> state = new TreeMap<>();
+        try (WriteAheadLog<Entry> wal = open(state, MAX_PENDING_BYTES)) {
+            for (long id = 1; id <= 3; id++) {
+                Entry entry = new Entry(id, "value-" + id);
+                wal.write(() -> wal.appendSave(entry));
+            }
+        }
+        long fullSize = Files.size(logFile(0));
+        try (FileChannel file = FileChannel.open(logFile(0), StandardOpenOption.WRITE)) {
+            file.truncate(fullSize - 3);
+        }
+
+        Map<Long, String> recovered = new TreeMap<>();
+        try (WriteAheadLog<Entry> wal = open(recovered, MAX_PENDING_BYTES)) {
+            assertThat(recovered).containsOnlyKeys(1L, 2L);
+            wal.write(() -> wal.appendSave(new Entry(4, "value-4")));
+        }
+
+        Map<Long, String> reopened = recover();
+        assertThat(reopened).containsOnlyKeys(1L, 2L, 4L);
+    }
+
+    @Test
+    void recordWithBadChecksumIsDiscarded() throws IOException {
+        Map<Long, String> state = new TreeMap<>();
+        try (WriteAheadLog<Entry> wal = open(state, MAX_PENDING_BYTES)) {
+            wal.write(() -> wal.appendSave(new Entry(1, "kept")));
+            wal.write(() -> wal.appendSave(new Entry(2, "corrupted")));
+        }
+        byte[] bytes = Files.readAllBytes(logFile(0));
+        bytes[bytes.length - 6] ^= 0x5A;
+        Files.write(logFile(0), bytes);
+
+        Map<Long, String> recovered = recover();
+        assertThat(recovered).containsExactly(Map.entry(1L, "kept"));
+    }
+
+    @Test
+    void recoversFromSnapshotPlusLaterLog() throws IOException {
+        Map<Long, String> state = new TreeMap<>();
+        try (WriteAheadLog<Entry> wal = open(state, MAX_PENDING_BYTES)) {
+            for (long id = 1; id <= 5; id++) {
+                Entry entry = new Entry(id, "v" + id);
+                wal.write(() -> {
+                    wal.appendSave(entry);
+                    state.put(entry.id, entry.value);
+                });
+            }
+            wal.checkpoint();
+            wal.write(() -> {
+                wal.appendDelete(2);
+                state.remove(2L);
+            });
+            wal.write(() -> {
+                wal.appendSave(new Entry(3, "v3-updated"));
+                state.put(3L, "v3-updated");
+            });
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                    .containsExactlyInAnyOrder(NAME + "-1.snap", NAME + "-1.wal");
+        }
+        Map<Long, String> recovered = recover();
+        assertThat(recovered).isEqualTo(state);
+    }
+
+    @Test
+    void concurrentWritersMakeProgressUnderSmallPendingLimit() throws Exception {
+        Map<Long, String> state = new ConcurrentHashMap<>();
+        int threads = 8;
+        int perThread = 200;
+        try (WriteAheadLog<Entry> wal = open(state, 64)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long base = (long) t * perThread;
+                futures.add(executor.submit(() -> {
+                    for (long i = 1; i <= perThread; i++) {
+                        Entry entry = new Entry(base + i, "x");
+                        wal.write(() -> wal.appendSave(entry));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+        }
+
+        Map<Long, String> recovered = recover();
+        assertThat(recovered).hasSize(threads * perThread);
+    }
+
+    private Map<Long, String> recover() {
+        Map<Long, String> state = new TreeMap<>();
+        open(state, MAX_PENDING_BYTES).close();
+        return state;
+    }
+
+    private WriteAheadLog<Entry> open(Map<Long, String> state, long maxPendingBytes) {
+        return open(state, maxPendingBytes, WalDurability.SYNC, 0);
+    }
+
+    private WriteAheadLog<Entry> open(Map<Long, String> state, long maxPendingBytes,
+                                      WalDurability durability, long fsyncIntervalMillis) {
+        WriteAheadLog<Entry> wal = new WriteAheadLog<>(directory, NAME, new EntryCodec(), maxPendingBytes,
+                durability, fsyncIntervalMillis);
+        wal.open(new RepositoryJournal.Replayer<>() {
+            @Override
+            public void onSave(Entry entry) {
+                state.put(entry.id, entry.value);
+            }
+
+            @Override
+            public void onDelete(long key) {
+                state.remove(key);
+            }
+        }, () -> state.entrySet().stream().map(e -> new Entry(e.getKey(), e.getValue())).toList());
+        return wal;
+    }
+
+    private Path logFile(long generation) {
+        return directory.resolve(NAME + "-" + generation + ".wal");
+    }
+
+    private record Entry(long id, String value) {
+    }
+
+    private static class EntryCodec implements RecordCodec<Entry> {
+
+        @Override
+        public void write(Entry entry, RecordWriter writer) {
+            writer.writeLong(entry.id);
+            writer.writeString(entry.value);
+        }
+
+        @Override
+        public Entry read(RecordReader reader) {
+            return new Entry(reader.readLong(), reader.readString());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.founder.match.profile.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.common.term.TermDictionary;
+
+class FounderProfileTest {
+
+    @Test
+    void tagIdArraysCannotBeChangedFromOutside() {
+        TermDictionary tags = new TermDictionary(1000);
+        FounderProfile profile = FounderProfile.create(tags, 1L, "CTO", List.of("Java", "Go"), List.of("핀테크"), "주 20시간", "bio");
+
+        int[] exposed = profile.getSkillIds();
+        exposed[0] = tags.intern("Rust");
+        int[] input = {tags.intern("Java")};
+        FounderProfile built = profile.toBuilder().interestIds(input).build();
+        input[0] = tags.intern("Rust");
+
+        assertThat(profile.getSkills()).containsExactly("java", "go");
+        assertThat(built.getInterests()).containsExactly("java");
+    }
+
+    @Test
+    void tagsKeepRequestOrderAfterNormalization() {
+        TermDictionary tags = new TermDictionary(1000);
+        tags.intern("react");
+
+        FounderProfile profile = FounderProfile.create(tags, 1L, "CTO",
+                List.of("  Spring Boot ", "React", "spring   boot", " "), List.of("핀테크"), "주 20시간", "bio");
+
+        assertThat(profile.getSkills()).containsExactly("spring boot", "react");
+        assertThat(profile.updated("CTO", List.of("JAVA", "react"), List.of("핀테크"), "주 20시간", "bio").getSkills())
+                .containsExactly("java", "react");
+    }
+}
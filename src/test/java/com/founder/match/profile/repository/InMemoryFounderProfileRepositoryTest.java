@@ -0,0 +1,106 @@
+package com.founder.match.profile.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.profile.domain.FounderProfile;
+
+class InMemoryFounderProfileRepositoryTest {
+
+    @Test
+    void concurrentReplacesWithSameVersionRecordOnlyTheWinner() throws Exception {
+        AtomicInteger journalSaves = new AtomicInteger();
+        ChangeEventLog changeLog = new ChangeEventLog(1024);
+        InMemoryFounderProfileRepository repository =
+                new InMemoryFounderProfileRepository(countingJournal(journalSaves), changeLog);
+        FounderProfile original = repository.save(profile(7L, "original"));
+        journalSaves.set(0);
+        long headBefore = changeLog.head();
+
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            FounderProfile updated = original.toBuilder().role("role-" + i).version(original.getVersion() + 1).build();
+            Callable<Boolean> replace = () -> {
+                start.await();
+                return repository.replace(original, updated);
+            };
+            results.add(executor.submit(replace));
+        }
+        start.countDown();
+        int winners = 0;
+        for (Future<Boolean> result : results) {
+            winners += result.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(winners).isEqualTo(1);
+        assertThat(journalSaves).hasValue(1);
+        assertThat(changeLog.head() - headBefore).isEqualTo(1);
+        FounderProfile stored = repository.findByUserId(7L).orElseThrow();
+        assertThat(changeLog.read(headBefore, 10).get(0).getEntity()).isSameAs(stored);
+    }
+
+    @Test
+    void pageFollowsUserIdOrder() {
+        InMemoryFounderProfileRepository repository =
+                new InMemoryFounderProfileRepository(RepositoryJournal.disabled(), new ChangeEventLog(1024));
+        for (long userId : new long[] {5, 1, 9, 3}) {
+            repository.save(profile(userId, "r"));
+        }
+        repository.deleteByUserId(3L);
+
+        assertThat(repository.findPage(null, 2)).extracting(FounderProfile::getUserId).containsExactly(1L, 5L);
+        assertThat(repository.findPage(1L, 10)).extracting(FounderProfile::getUserId).containsExactly(5L, 9L);
+    }
+
+    private static FounderProfile profile(Long userId, String role) {
+        return FounderProfile.builder()
+                .userId(userId)
+                .role(role)
+                .skillIds(new int[0])
+                .interestIds(new int[0])
+                .build();
+    }
+
+    private static RepositoryJournal<FounderProfile> countingJournal(AtomicInteger saves) {
+        return new RepositoryJournal<>() {
+            @Override
+            public void appendSave(FounderProfile entity) {
+                saves.incrementAndGet();
+            }
+
+            @Override
+            public void appendDelete(long key) {
+            }
+
+            @Override
+            public void write(Runnable change) {
+                change.run();
+            }
+
+            @Override
+            public void open(Replayer<FounderProfile> replayer, Supplier<? extends Iterable<FounderProfile>> contents) {
+            }
+
+            @Override
+            public void checkpoint() {
+            }
+        };
+    }
+}
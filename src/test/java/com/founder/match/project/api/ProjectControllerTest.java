@@ -0,0 +1,72 @@
+package com.founder.match.project.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+class ProjectControllerTest {
+
+    private static final String CREATE_BODY = """
+            {"ownerId":1,"name":"origin","oneLineIntro":"intro","description":"description",
+             "stage":"IDEA","domain":"FINTECH","workStyle":"REMOTE","rewardType":"EQUITY","expectedDuration":"3 months"}
+            """;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void ifMatchWithCurrentETagUpdatesAndStaleETagIsRejectedWith412() throws Exception {
+        String createdETag = mockMvc.perform(post("/api/projects")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_BODY))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String id = createdETag.substring(1, createdETag.indexOf('-'));
+
+        String updatedETag = mockMvc.perform(patch("/api/projects/" + id)
+                        .header(HttpHeaders.IF_MATCH, createdETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"fresh\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("fresh"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedETag).isNotEqualTo(createdETag);
+
+        mockMvc.perform(patch("/api/projects/" + id)
+                        .header(HttpHeaders.IF_MATCH, createdETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"late\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/projects/" + id)
+                        .header(HttpHeaders.IF_MATCH, "W/" + updatedETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"weak\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/projects/" + id)
+                        .header(HttpHeaders.IF_MATCH, updatedETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"latest\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("latest"));
+    }
+}
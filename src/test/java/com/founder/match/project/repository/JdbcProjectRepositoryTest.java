@@ -0,0 +1,136 @@
+package com.founder.match.project.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.founder.match.change.domain.ChangeEntityType;
+import com.founder.match.change.domain.ChangeEvent;
+import com.founder.match.change.domain.ChangeOperation;
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+
+@SpringBootTest
+@ActiveProfiles("jdbc")
+class JdbcProjectRepositoryTest {
+
+    @Autowired
+    private JdbcProjectRepository repository;
+
+    @Autowired
+    private ProjectRepository cachingRepository;
+
+    @Autowired
+    private ChangeEventLog changeLog;
+
+    @Test
+    void timeOrderedPagesFollowTimeDescendingThenIdWithTiesAndNulls() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0, 0, 123_456_000);
+        LocalDateTime[] createdAt = {base, base.plusMinutes(5), base, null, base.plusMinutes(5), base.minusDays(1), null};
+        List<Project> projects = new ArrayList<>();
+        for (LocalDateTime time : createdAt) {
+            projects.add(project(time));
+        }
+        repository.saveAll(projects);
+        ProjectFacetFilter filter = new ProjectFacetFilter(null, ProjectDomain.HEALTHCARE, null, RewardType.SALARY);
+
+        List<Project> expected = new ArrayList<>(repository.findByFacets(filter));
+        expected.sort(Comparator.comparingLong(ProjectTimeOrder.CREATED_AT::keyOf).reversed()
+                .thenComparingLong(Project::getId));
+
+        List<Project> paged = new ArrayList<>();
+        long[] after = null;
+        while (true) {
+            List<Project> page = repository.findByFacets(filter, ProjectTimeOrder.CREATED_AT, after, 2);
+            paged.addAll(page);
+            if (page.size() < 2) {
+                break;
+            }
+            Project last = page.get(page.size() - 1);
+            after = new long[]{ProjectTimeOrder.CREATED_AT.keyOf(last), last.getId()};
+        }
+
+        assertThat(expected).hasSizeGreaterThanOrEqualTo(createdAt.length);
+        assertThat(paged).extracting(Project::getId).containsExactlyElementsOf(expected.stream().map(Project::getId).toList());
+    }
+
+    @Test
+    void findAllByIdReturnsExistingRowsInIdOrderFromCacheAndDatabase() {
+        List<Project> saved = repository.saveAll(List.of(project(null), project(null), project(null)));
+        int first = saved.get(0).getId().intValue();
+        int third = saved.get(2).getId().intValue();
+        cachingRepository.findById((long) first);
+
+        List<Project> found = cachingRepository.findAllById(new int[]{first, third, Integer.MAX_VALUE - 1});
+
+        assertThat(found).extracting(Project::getId).containsExactly((long) first, (long) third);
+    }
+
+    @Test
+    void concurrentSavesOfOneRowAreLoggedWithDistinctVersionsAndTheHighestIsTheStoredRow() throws Exception {
+        Project original = repository.save(project(null));
+        long since = changeLog.head();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 25; i++) {
+                    repository.save(original.toBuilder().name("t" + thread + "-" + i).build());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        Project stored = repository.findById(original.getId()).orElseThrow();
+        repository.deleteById(original.getId());
+
+        List<ChangeEvent> events = changeLog.read(since, ChangeEventLog.MAX_BATCH).stream()
+                .filter(event -> event.getEntityType() == ChangeEntityType.PROJECT && event.getEntityId() == original.getId())
+                .toList();
+        List<ChangeEvent> saves = events.subList(0, events.size() - 1);
+        assertThat(saves).extracting(ChangeEvent::getVersion)
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, 100).boxed().toList());
+        ChangeEvent latest = saves.stream().max(Comparator.comparingLong(ChangeEvent::getVersion)).orElseThrow();
+        assertThat(stored.getVersion()).isEqualTo(100L);
+        assertThat(((Project) latest.getEntity()).getName()).isEqualTo(stored.getName());
+        ChangeEvent delete = events.get(events.size() - 1);
+        assertThat(delete.getOperation()).isEqualTo(ChangeOperation.DELETE);
+        assertThat(delete.getVersion()).isEqualTo(101L);
+    }
+
+    private static Project project(LocalDateTime createdAt) {
+        return Project.builder()
+                .ownerId(1L)
+                .name("name")
+                .oneLineIntro("intro")
+                .description("description")
+                .stage(ProjectStage.MVP)
+                .domain(ProjectDomain.HEALTHCARE)
+                .workStyle(WorkStyle.ONSITE)
+                .rewardType(RewardType.SALARY)
+                .expectedDuration("6 months")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.founder.match.project.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.project.domain.Project;
+
+class ProjectKeywordIndexTest {
+
+    private final ProjectKeywordIndex index = new ProjectKeywordIndex(3.0, 2.0, 1.0);
+
+    @Test
+    void updateMovesOnlyChangedGramsAndKeepsSharedOnes() {
+        index.indexAll(List.of(project(1L, "Spring 매칭", "intro"), project(2L, "spring boot", "intro")));
+
+        index.index(project(1L, "Kotlin 매칭", "intro"));
+
+        assertThat(index.search("spring")).containsExactly(2);
+        assertThat(index.search("kotlin")).containsExactly(1);
+        assertThat(index.search("매칭")).containsExactly(1);
+        assertThat(index.search("intro")).containsExactly(1, 2);
+    }
+
+    @Test
+    void reindexingUnchangedTextKeepsResultsAndScores() {
+        index.indexAll(List.of(project(1L, "matching service", "fast matching"), project(2L, "search", "matching")));
+        double[] before = index.scores("matching", new int[]{1, 2});
+
+        index.index(project(1L, "Matching service", "fast matching"));
+        index.index(project(1L, "matching service", "fast matching"));
+
+        assertThat(index.search("matching")).containsExactly(1, 2);
+        assertThat(index.scores("matching", new int[]{1, 2})).containsExactly(before);
+    }
+
+    @Test
+    void removeDropsEveryGramOfTheProject() {
+        index.indexAll(List.of(project(1L, "alpha", "beta"), project(2L, "gamma", "beta")));
+
+        index.remove(1L);
+
+        assertThat(index.search("alpha")).isEmpty();
+        assertThat(index.search("a")).containsExactly(2);
+        assertThat(index.search("beta")).containsExactly(2);
+    }
+
+    private static Project project(Long id, String name, String intro) {
+        return Project.builder()
+                .id(id)
+                .name(name)
+                .oneLineIntro(intro)
+                .description("")
+                .build();
+    }
+}
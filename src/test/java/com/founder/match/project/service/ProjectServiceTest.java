@@ -0,0 +1,130 @@
+package com.founder.match.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.common.web.ETags;
+import com.founder.match.common.web.VersionConflictException;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+import com.founder.match.project.dto.ProjectRequest;
+import com.founder.match.project.dto.ProjectUpdateRequest;
+import com.founder.match.project.event.ProjectChangedEvent;
+import com.founder.match.project.repository.InMemoryProjectRepository;
+import com.founder.match.project.search.ProjectKeywordIndex;
+
+class ProjectServiceTest {
+
+    private static final String[] NAMES = {
+            "apple", "banana", "cherry", "durian", "elder", "fig", "grape", "honeydew"
+    };
+
+    private final List<ProjectChangedEvent> events = new CopyOnWriteArrayList<>();
+    private final ProjectKeywordIndex keywordIndex = new ProjectKeywordIndex(3.0, 2.0, 1.0);
+    private final InMemoryProjectRepository repository =
+            new InMemoryProjectRepository(RepositoryJournal.disabled(), new ChangeEventLog(1024));
+    private final ProjectService service = new ProjectService(repository, keywordIndex, event -> {
+        if (event instanceof ProjectChangedEvent changed) {
+            events.add(changed);
+        }
+    });
+
+    @Test
+    void staleIfMatchIsRejectedAndLeavesProjectUntouched() {
+        Project created = service.create(request("origin"));
+        String staleETag = ETags.of(created.getId(), created.getVersion());
+        Project updated = service.update(created.getId(), rename("fresh"), staleETag);
+
+        assertThatThrownBy(() -> service.update(created.getId(), rename("late"), staleETag))
+                .isInstanceOf(VersionConflictException.class);
+        assertThat(service.get(created.getId())).isEqualTo(updated);
+        assertThat(keywordIndex.search("late")).isEmpty();
+    }
+
+    @Test
+    void concurrentUpdatesLeaveIndexAndEventsOnLatestVersion() throws Exception {
+        Project created = service.create(request("origin"));
+        events.clear();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(NAMES.length);
+        List<Future<Project>> results = new ArrayList<>();
+        for (String name : NAMES) {
+            Callable<Project> update = () -> {
+                start.await();
+                return service.update(created.getId(), rename(name), null);
+            };
+            results.add(executor.submit(update));
+        }
+        start.countDown();
+        for (Future<Project> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        Project stored = service.get(created.getId());
+        assertThat(stored.getVersion()).isEqualTo(created.getVersion() + NAMES.length);
+        assertThat(events).extracting(event -> event.getProject().getVersion()).isSorted().doesNotHaveDuplicates();
+        assertThat(events.get(events.size() - 1).getProject()).isEqualTo(stored);
+        for (String name : NAMES) {
+            int[] hits = keywordIndex.search(name);
+            if (name.equals(stored.getName())) {
+                assertThat(hits).containsExactly(created.getId().intValue());
+            } else {
+                assertThat(hits).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    void unpagedRankedListIsCappedWhileIdOrderReturnsEverything() {
+        List<ProjectRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ProjectService.MAX_UNPAGED_RANKED + 5; i++) {
+            requests.add(request("common " + i));
+        }
+        service.createAll(requests);
+
+        assertThat(service.getProjects(null, null, null, null, "common", ProjectSort.RELEVANCE))
+                .hasSize(ProjectService.MAX_UNPAGED_RANKED);
+        assertThat(service.getProjects(null, null, null, null, null, ProjectSort.CREATED_AT))
+                .hasSize(ProjectService.MAX_UNPAGED_RANKED);
+        assertThat(service.getProjects(null, null, null, null, "common", ProjectSort.ID))
+                .hasSize(requests.size());
+    }
+
+    private static ProjectUpdateRequest rename(String name) {
+        ProjectUpdateRequest request = new ProjectUpdateRequest();
+        request.setName(name);
+        return request;
+    }
+
+    private static ProjectRequest request(String name) {
+        ProjectRequest request = new ProjectRequest();
+        request.setOwnerId(1L);
+        request.setName(name);
+        request.setOneLineIntro("intro");
+        request.setDescription("description");
+        request.setStage(ProjectStage.IDEA);
+        request.setDomain(ProjectDomain.FINTECH);
+        request.setWorkStyle(WorkStyle.REMOTE);
+        request.setRewardType(RewardType.EQUITY);
+        request.setExpectedDuration("3 months");
+        return request;
+    }
+}
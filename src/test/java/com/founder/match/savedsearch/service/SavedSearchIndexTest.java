@@ -0,0 +1,56 @@
+package com.founder.match.savedsearch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.project.domain.Project;
+import com.founder.match.project.domain.ProjectDomain;
+import com.founder.match.project.domain.ProjectStage;
+import com.founder.match.project.domain.RewardType;
+import com.founder.match.project.domain.WorkStyle;
+import com.founder.match.savedsearch.domain.SavedSearch;
+
+class SavedSearchIndexTest {
+
+    private final SavedSearchIndex index = new SavedSearchIndex();
+
+    @Test
+    void matchRequiresEveryFacetAndKeywordPredicateOfASearch() {
+        add(1L, ProjectStage.IDEA, null, "핀테크");
+        add(2L, ProjectStage.IDEA, null, null);
+        add(3L, ProjectStage.MVP, null, "핀테크");
+        add(4L, null, ProjectDomain.FINTECH, "blockchain");
+        add(5L, ProjectStage.IDEA, ProjectDomain.FINTECH, "결제");
+        add(6L, null, null, "x");
+        add(7L, null, null, null);
+        add(8L, null, ProjectDomain.FINTECH, "q");
+
+        Project project = Project.builder()
+                .id(100L)
+                .name("Pay Box")
+                .oneLineIntro("소상공인 핀테크 결제")
+                .description("QR 결제 단말")
+                .stage(ProjectStage.IDEA)
+                .domain(ProjectDomain.FINTECH)
+                .workStyle(WorkStyle.REMOTE)
+                .rewardType(RewardType.EQUITY)
+                .build();
+
+        assertThat(index.match(project)).extracting(SavedSearch::getId).containsExactly(1L, 2L, 5L, 6L, 7L, 8L);
+
+        index.remove(5L);
+        index.remove(7L);
+        assertThat(index.match(project)).extracting(SavedSearch::getId).containsExactly(1L, 2L, 6L, 8L);
+    }
+
+    private void add(Long id, ProjectStage stage, ProjectDomain domain, String keyword) {
+        index.add(SavedSearch.builder()
+                .id(id)
+                .userId(id)
+                .stage(stage)
+                .domain(domain)
+                .keyword(keyword)
+                .build(), 20);
+    }
+}
@@ -0,0 +1,47 @@
+package com.founder.match.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.founder.match.change.service.ChangeEventLog;
+import com.founder.match.persistence.RepositoryJournal;
+import com.founder.match.user.domain.User;
+import com.founder.match.user.dto.UserLoginRequest;
+import com.founder.match.user.repository.InMemoryUserRepository;
+
+class UserServiceTest {
+
+    private final ChangeEventLog changeLog = new ChangeEventLog(1024);
+    private final InMemoryUserRepository repository = new InMemoryUserRepository(RepositoryJournal.disabled(), changeLog);
+    private final PasswordHasher hasher = new PasswordHasher(4, 1, 16);
+    private final UserService service = new UserService(repository, hasher);
+
+    @AfterEach
+    void tearDown() {
+        hasher.destroy();
+        changeLog.destroy();
+    }
+
+    @Test
+    void rehashOnLoginStoresACopyAndLeavesTheReadInstanceAlone() {
+        User stored = repository.save(User.create("a@example.com", "plain-secret", "a", "010"));
+
+        User loggedIn = service.login(login("a@example.com", "plain-secret"));
+
+        assertThat(stored.getPassword()).isEqualTo("plain-secret");
+        assertThat(loggedIn).isNotSameAs(stored);
+        User current = repository.findById(stored.getId()).orElseThrow();
+        assertThat(current.getPassword()).startsWith("$2").isEqualTo(loggedIn.getPassword());
+        assertThat(hasher.needsRehash(current.getPassword())).isFalse();
+        assertThat(service.login(login("a@example.com", "plain-secret")).getPassword()).isEqualTo(current.getPassword());
+    }
+
+    private static UserLoginRequest login(String email, String password) {
+        UserLoginRequest request = new UserLoginRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}